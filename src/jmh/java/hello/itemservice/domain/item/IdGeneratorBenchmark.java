@@ -0,0 +1,52 @@
+package hello.itemservice.domain.item;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * id 하나 발급 비용. 경합은 스레드 수로 비교 (-t 1, -t 4, -t 16 ...)
+ * block 은 구간 크기에 따라 파일 락 + fsync 가 blockSize 번에 한 번
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+
+    @Param({"sequence", "snowflake", "block-100", "block-10000"})
+    String generator;
+
+    IdGenerator ids;
+    Path counter;
+
+    @Setup
+    public void setUp() throws IOException {
+        switch (generator) {
+            case "sequence":
+                ids = new SequenceIdGenerator();
+                break;
+            case "snowflake":
+                ids = new SnowflakeIdGenerator(1);
+                break;
+            default:
+                counter = Files.createTempFile("item-id", ".block");
+                ids = new BlockLeasingIdGenerator(counter, Integer.parseInt(generator.substring("block-".length())));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (ids instanceof BlockLeasingIdGenerator) {
+            ((BlockLeasingIdGenerator) ids).close();
+            Files.deleteIfExists(counter);
+        }
+    }
+
+    @Benchmark
+    public long nextId() {
+        return ids.nextId();
+    }
+}
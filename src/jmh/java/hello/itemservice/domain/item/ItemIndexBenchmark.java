@@ -0,0 +1,63 @@
+package hello.itemservice.domain.item;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 인덱스 조회 vs 전체 스캔을 저장소 크기별로
+ * 결과 건수는 크기와 상관없이 10건 정도가 되도록 데이터를 만든다 (이름당 10건, 가격 구간 100 에 10건 정도)
+ * -> 인덱스 조회는 크기가 커져도 거의 그대로, 스캔은 크기에 비례해야 함
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ItemIndexBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    int items;
+
+    ItemRepository repository;
+
+    @Setup
+    public void setUp() {
+        repository = new MemoryItemRepository();
+        Random random = new Random(1);
+        List<Item> batch = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            batch.add(new Item("item" + i % (items / 10), 1000 + random.nextInt(items * 10), random.nextInt(10000)));
+        }
+        repository.saveAll(batch);
+    }
+
+    @Benchmark
+    public List<Item> findByItemName() {
+        return repository.findByItemName("item7");
+    }
+
+    @Benchmark
+    public List<Item> scanByItemName() {
+        return repository.findAll().stream()
+                .filter(item -> "item7".equals(item.getItemName()))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Item> findByPriceBetween() {
+        return repository.findByPriceBetween(5000, 5100, 10);
+    }
+
+    @Benchmark
+    public List<Item> scanByPriceBetween() {
+        return repository.findAll().stream()
+                .filter(item -> item.getPrice() >= 5000 && item.getPrice() <= 5100)
+                .sorted(Comparator.comparing(Item::getPrice).thenComparing(Item::getId))
+                .limit(10)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,109 @@
+package hello.itemservice.domain.item;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 작업을 저장소 구현체별로 (memory, 내장 H2 + HikariCP 의 jdbc)
+ * saveAllOneByOne 은 save 를 batch 개 반복 -> saveAll(JDBC 배치 + 한 트랜잭션)과 비교
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ItemRepositoryBackendBenchmark {
+
+    @Param({"memory", "jdbc"})
+    String backend;
+
+    @Param("20000")
+    int items;
+
+    @Param("100")
+    int batch;
+
+    ItemRepository repository;
+    HikariDataSource dataSource;
+
+    @Setup
+    public void setUp() {
+        if (backend.equals("memory")) {
+            repository = new MemoryItemRepository();
+        } else {
+            HikariConfig config = new HikariConfig();
+            config.setJdbcUrl("jdbc:h2:mem:bench-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+            config.setUsername("sa");
+            config.setMaximumPoolSize(8);
+            dataSource = new HikariDataSource(config);
+            repository = new JdbcItemRepository(dataSource, new SequenceIdGenerator(), 500, 1000);
+        }
+        repository.saveAll(newItems(items));
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @Benchmark
+    public Item save() {
+        return repository.save(new Item("itemA", 10000, 10));
+    }
+
+    @Benchmark
+    public List<Item> saveAll() {
+        return repository.saveAll(newItems(batch));
+    }
+
+    @Benchmark
+    public List<Item> saveAllOneByOne() {
+        List<Item> batchItems = newItems(batch);
+        for (Item item : batchItems) {
+            repository.save(item);
+        }
+        return batchItems;
+    }
+
+    @Benchmark
+    public Item findById() {
+        return repository.findById(1L + ThreadLocalRandom.current().nextInt(items));
+    }
+
+    // 뒤쪽 페이지 - keyset 이라 앞쪽과 비용이 같아야 함
+    @Benchmark
+    public List<Item> findPage() {
+        return repository.findPage((long) items - 100, 20);
+    }
+
+    @Benchmark
+    public List<Item> findAll() {
+        return repository.findAll();
+    }
+
+    @Benchmark
+    public List<Item> findByPriceBetween() {
+        return repository.findByPriceBetween(100_000, 200_000, 100);
+    }
+
+    @Benchmark
+    public ItemStats stats() {
+        return repository.stats();
+    }
+
+    private static List<Item> newItems(int count) {
+        Random random = new Random(1);
+        List<Item> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(new Item("item" + random.nextInt(1000), 1000 + random.nextInt(10000) * 100, random.nextInt(10000)));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,45 @@
+package hello.itemservice.domain.item;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스냅샷 복구 시간 (콜드 스타트). 파일 크기는 setUp 에서 bytes/item 으로 출력
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ItemSnapshotBenchmark {
+
+    @Param("1000000")
+    int items;
+
+    Path path;
+
+    @Setup
+    public void setUp() throws IOException {
+        ItemRepository source = new ColumnarItemRepository();
+        for (int i = 0; i < items; i++) {
+            source.save(new Item("item" + (i % 1000), 1000 + i % 100_000, i % 9999));
+        }
+        path = Files.createTempFile("items", ".snapshot");
+        ItemSnapshot.write(source, path);
+        System.out.println("snapshot " + Files.size(path) / items + " bytes/item");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public ItemRepository load() {
+        ItemRepository target = new ColumnarItemRepository();
+        ItemSnapshot.load(path, target);
+        return target;
+    }
+}
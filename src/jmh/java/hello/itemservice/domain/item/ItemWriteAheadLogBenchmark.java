@@ -0,0 +1,60 @@
+package hello.itemservice.domain.item;
+
+import hello.itemservice.domain.item.ItemWriteAheadLog.FsyncPolicy;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * fsync 정책별 기록 처리량 (8 스레드 동시 기록 -> ALWAYS 는 group commit 효과까지)
+ * 파일이 계속 커지지 않도록 iteration 마다 비움
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+@State(Scope.Benchmark)
+public class ItemWriteAheadLogBenchmark {
+
+    @Param({"ALWAYS", "BATCH", "INTERVAL"})
+    FsyncPolicy policy;
+
+    @Param("64")
+    int batchSize;
+
+    @Param("10")
+    long intervalMillis;
+
+    Path path;
+    ItemWriteAheadLog wal;
+    final AtomicLong ids = new AtomicLong();
+
+    @Setup
+    public void setUp() throws IOException {
+        path = Files.createTempFile("items", ".wal");
+        wal = new ItemWriteAheadLog(path, policy, batchSize, intervalMillis);
+    }
+
+    @Setup(Level.Iteration)
+    public void clear() {
+        wal.truncate();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        wal.close();
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public Item append() {
+        Item item = new Item("itemA", 10000, 10);
+        item.setId(ids.incrementAndGet());
+        item.setVersion(1L);
+        wal.append(ItemWriteAheadLog.SAVE, item);
+        return item;
+    }
+}
@@ -0,0 +1,84 @@
+package hello.itemservice.domain.item;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 스캔/범위 조회를 코어 수(parallelism)에 따라 비교
+ * parallelism 0 은 샤드 없는 MemoryItemRepository, 그 외는 같은 수의 샤드 + 같은 크기의 fork-join 풀
+ *
+ * 쓰기 경합은 스레드 수를 바꿔서: -t 1, -t 8, -t 32 ... (save 벤치마크)
+ * save 로 저장소가 계속 커지지 않도록 iteration 마다 items 건으로 다시 채움
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ShardedItemRepositoryBenchmark {
+
+    @Param({"0", "1", "2", "4", "8", "16", "32"})
+    int parallelism;
+
+    @Param("200000")
+    int items;
+
+    ItemRepository repository;
+    ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        if (parallelism == 0) {
+            repository = new MemoryItemRepository();
+        } else {
+            pool = new ForkJoinPool(parallelism);
+            repository = new ShardedItemRepository(parallelism, pool);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void fill() {
+        repository.clearStore();
+        Random random = new Random(1);
+        List<Item> batch = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            batch.add(new Item("item" + random.nextInt(1000), 1000 + random.nextInt(10000) * 100, random.nextInt(10000)));
+        }
+        repository.saveAll(batch);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public List<Item> findAll() {
+        return repository.findAll();
+    }
+
+    @Benchmark
+    public List<Item> findByItemName() {
+        return repository.findByItemName("item7");
+    }
+
+    @Benchmark
+    public List<Item> findByPriceBetween() {
+        return repository.findByPriceBetween(100_000, 200_000, 100);
+    }
+
+    @Benchmark
+    public List<Item> findPage() {
+        return repository.findPage(100_000L, 20);
+    }
+
+    @Benchmark
+    public Item save() {
+        return repository.save(new Item("itemA", 10000, 10));
+    }
+}
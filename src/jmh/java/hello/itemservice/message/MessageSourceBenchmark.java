@@ -0,0 +1,68 @@
+package hello.itemservice.message;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.MessageSource;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.validation.DefaultMessageCodesResolver;
+import org.springframework.validation.FieldError;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오류 메시지 렌더링 비용: 스프링 부트 기본 ResourceBundleMessageSource vs CompiledMessageSource
+ * range 는 4단계 코드 중 2번째(range.price)에서 찾고 인자 2개 포맷, required 는 1단계에서 찾고 인자 없음
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class MessageSourceBenchmark {
+
+    @Param({"resourceBundle", "compiled"})
+    String source;
+
+    @Param({"ko", "en"})
+    String lang;
+
+    MessageSource messageSource;
+    Locale locale;
+    FieldError rangeError;
+    FieldError requiredError;
+
+    @Setup
+    public void setUp() {
+        String[] basenames = {"messages", "errors"};
+        if (source.equals("compiled")) {
+            messageSource = new CompiledMessageSource(basenames, StandardCharsets.UTF_8, true);
+        } else {
+            ResourceBundleMessageSource resourceBundle = new ResourceBundleMessageSource();
+            resourceBundle.setBasenames(basenames);
+            resourceBundle.setDefaultEncoding("UTF-8");
+            messageSource = resourceBundle;
+        }
+        locale = new Locale(lang);
+
+        DefaultMessageCodesResolver codesResolver = new DefaultMessageCodesResolver();
+        rangeError = new FieldError("item", "price", 10, false,
+                codesResolver.resolveMessageCodes("range", "item", "price", Integer.class), new Object[]{1000, 1000000}, null);
+        requiredError = new FieldError("item", "itemName", "", false,
+                codesResolver.resolveMessageCodes("required", "item", "itemName", String.class), null, null);
+    }
+
+    @Benchmark
+    public String range() {
+        return messageSource.getMessage(rangeError, locale);
+    }
+
+    @Benchmark
+    public String required() {
+        return messageSource.getMessage(requiredError, locale);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String rangeContended() {
+        return messageSource.getMessage(rangeError, locale);
+    }
+}
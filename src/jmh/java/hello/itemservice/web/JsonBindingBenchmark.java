@@ -0,0 +1,81 @@
+package hello.itemservice.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.itemservice.web.validation.LenientJson;
+import hello.itemservice.web.validation.LenientJsonArgumentResolver;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * JSON API 바인딩: @RequestBody (타입이 안 맞으면 HttpMessageNotReadableException) vs @LenientJson
+ * invalid 는 price 에 문자가 들어온 요청
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JsonBindingBenchmark {
+
+    @Param({"valid", "invalid"})
+    String payload;
+
+    MockMvc mockMvc;
+    LocalValidatorFactoryBean beanValidator;
+    String body;
+
+    @RestController
+    public static class BindingController {
+
+        @PostMapping("/requestBody")
+        public ResponseEntity<Object> requestBody(@RequestBody @Validated ItemSaveForm form, BindingResult bindingResult) {
+            return bindingResult.hasErrors() ? ResponseEntity.badRequest().build() : ResponseEntity.ok(form);
+        }
+
+        @PostMapping("/lenient")
+        public ResponseEntity<Object> lenient(@LenientJson @Validated ItemSaveForm form, BindingResult bindingResult) {
+            return bindingResult.hasErrors() ? ResponseEntity.badRequest().build() : ResponseEntity.ok(form);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        beanValidator = new LocalValidatorFactoryBean();
+        beanValidator.afterPropertiesSet();
+        mockMvc = MockMvcBuilders.standaloneSetup(new BindingController())
+                .setCustomArgumentResolvers(new LenientJsonArgumentResolver(new ObjectMapper()))
+                .setValidator(beanValidator)
+                .build();
+        body = payload.equals("valid")
+                ? "{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10}"
+                : "{\"itemName\":\"itemA\",\"price\":\"abc\",\"quantity\":10}";
+    }
+
+    @TearDown
+    public void tearDown() {
+        beanValidator.close();
+    }
+
+    @Benchmark
+    public MvcResult requestBody() throws Exception {
+        return mockMvc.perform(post("/requestBody").contentType(MediaType.APPLICATION_JSON).content(body)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult lenient() throws Exception {
+        return mockMvc.perform(post("/lenient").contentType(MediaType.APPLICATION_JSON).content(body)).andReturn();
+    }
+}
@@ -0,0 +1,52 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+
+import java.util.List;
+
+/**
+ * 벤치마크용 저장소. 저장은 id 만 붙이고 버림 - 측정 중에 저장소가 계속 커지지 않도록
+ */
+class DiscardingItemRepository implements ItemRepository {
+
+    private long sequence;
+
+    @Override
+    public Item save(Item item) {
+        item.setId(++sequence);
+        return item;
+    }
+
+    @Override
+    public Item findById(Long id) {
+        return null;
+    }
+
+    @Override
+    public List<Item> findAll() {
+        return List.of();
+    }
+
+    @Override
+    public List<Item> findPage(Long afterId, int limit) {
+        return List.of();
+    }
+
+    @Override
+    public void update(Long itemId, Item updateParam) {
+    }
+
+    @Override
+    public long catalogVersion() {
+        return 0;
+    }
+
+    @Override
+    public void restore(Item item) {
+    }
+
+    @Override
+    public void clearStore() {
+    }
+}
@@ -0,0 +1,77 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.config.FastBindingConfig;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.support.ConfigurableWebBindingInitializer;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.ServletModelAttributeMethodProcessor;
+import org.springframework.web.servlet.mvc.method.annotation.ServletRequestDataBinderFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @ModelAttribute ItemSaveForm 하나를 만드는 비용 (객체 생성 + 파라미터 바인딩, 검증 제외)
+ *
+ * stock  ServletModelAttributeMethodProcessor (WebDataBinder + BeanWrapper + ConversionService)
+ * fast   FastModelAttributeMethodProcessor (FormBinder)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class FormBindingBenchmark {
+
+    @Param({"valid", "typeMismatch"})
+    String payload;
+
+    MethodParameter parameter;
+    ServletWebRequest webRequest;
+    ServletRequestDataBinderFactory binderFactory;
+    HandlerMethodArgumentResolver stock;
+    HandlerMethodArgumentResolver fast;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/validation/v4/items/add");
+        if (payload.equals("valid")) {
+            request.addParameter("itemName", "itemA");
+            request.addParameter("price", "10000");
+            request.addParameter("quantity", "10");
+        } else {
+            request.addParameter("itemName", "itemA");
+            request.addParameter("price", "abc");
+            request.addParameter("quantity", "10");
+        }
+        webRequest = new ServletWebRequest(request);
+
+        // 스프링 MVC 처럼 ConversionService 가 설정된 바인더
+        ConfigurableWebBindingInitializer initializer = new ConfigurableWebBindingInitializer();
+        initializer.setConversionService(new DefaultFormattingConversionService());
+        binderFactory = new ServletRequestDataBinderFactory(null, initializer);
+
+        parameter = new MethodParameter(FormBindingBenchmark.class.getDeclaredMethod("handle", ItemSaveForm.class, BindingResult.class), 0);
+        stock = new ServletModelAttributeMethodProcessor(false);
+        fast = new FastModelAttributeMethodProcessor(FastBindingConfig.formBinders());
+    }
+
+    @Benchmark
+    public Object stock() throws Exception {
+        return stock.resolveArgument(parameter, new ModelAndViewContainer(), webRequest, binderFactory);
+    }
+
+    @Benchmark
+    public Object fast() throws Exception {
+        return fast.resolveArgument(parameter, new ModelAndViewContainer(), webRequest, binderFactory);
+    }
+
+    @SuppressWarnings("unused")
+    void handle(@ModelAttribute("item") ItemSaveForm form, BindingResult bindingResult) {
+    }
+}
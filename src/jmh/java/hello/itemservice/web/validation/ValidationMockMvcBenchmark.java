@@ -0,0 +1,76 @@
+package hello.itemservice.web.validation;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 버전별 등록 요청을 MockMvc 로 보냈을 때의 비용 (디스패처, 인자 해석, @InitBinder 포함)
+ * 뷰 이름까지만 확인하고 템플릿 렌더링은 하지 않는다
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ValidationMockMvcBenchmark {
+
+    @Param({"valid", "invalid"})
+    String payload;
+
+    MockMvc mockMvc;
+    LocalValidatorFactoryBean beanValidator;
+
+    @Setup
+    public void setUp() {
+        beanValidator = new LocalValidatorFactoryBean();
+        beanValidator.afterPropertiesSet();
+
+        DiscardingItemRepository repository = new DiscardingItemRepository();
+        ItemPageETags eTags = new ItemPageETags(repository);
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                        new ValidationItemControllerV1(repository, eTags),
+                        new ValidationItemControllerV2(repository, eTags, new ItemValidator()),
+                        new ValidationItemControllerV3(repository, eTags),
+                        new ValidationItemControllerV4(repository, eTags))
+                .setValidator(beanValidator)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        beanValidator.close();
+    }
+
+    @Benchmark
+    public MvcResult v1() throws Exception {
+        return mockMvc.perform(request("/validation/v1/items/add")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult v2InitBinder() throws Exception {
+        return mockMvc.perform(request("/validation/v2/items/add")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult v3() throws Exception {
+        return mockMvc.perform(request("/validation/v3/items/add")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult v4() throws Exception {
+        return mockMvc.perform(request("/validation/v4/items/add")).andReturn();
+    }
+
+    private MockHttpServletRequestBuilder request(String uri) {
+        if (payload.equals("valid")) {
+            return post(uri).param("itemName", "itemA").param("price", "10000").param("quantity", "10");
+        }
+        return post(uri).param("itemName", "").param("price", "10").param("quantity", "10000");
+    }
+}
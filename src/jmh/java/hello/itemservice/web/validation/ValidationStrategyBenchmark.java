@@ -0,0 +1,143 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.SaveCheck;
+import hello.itemservice.web.validation.form.FailFast;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.ui.ExtendedModelMap;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.servlet.mvc.support.RedirectAttributesModelMap;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 상품 등록 검증을 버전별 방식으로 처리할 때의 비용 (컨트롤러 메서드 직접 호출)
+ * 요청 파라미터 바인딩(문자열 -> Integer 변환)부터 컨트롤러 반환까지 측정, 뷰 렌더링은 제외
+ *
+ * v1            HashMap 에 오류 메시지 직접 담기
+ * v2Manual      FieldError 직접 생성 (addItemV1)
+ * v2RejectValue rejectValue + 메시지 코드 (addItemV4)
+ * v2InitBinder  ItemValidator 를 바인더에 등록 (addItemV6)
+ * v3            Item 에 Bean Validation + SaveCheck 그룹 (addItem2)
+ * v4            ItemSaveForm 으로 분리 (addItem)
+ * apiFull       ItemSaveFormValidator 전체 검증 + totalPriceMin (batch/import)
+ * apiFailFast   ItemSaveFormValidator + FailFast 그룹 순서, 첫 오류에서 중단 (API addItem)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class ValidationStrategyBenchmark {
+
+    @Param({"valid", "invalid"})
+    String payload;
+
+    MutablePropertyValues values;
+    LocalValidatorFactoryBean beanValidator;
+    ItemValidator itemValidator;
+    ItemSaveFormValidator saveFormValidator;
+
+    ValidationItemControllerV1 v1;
+    ValidationItemControllerV2 v2;
+    ValidationItemControllerV3 v3;
+    ValidationItemControllerV4 v4;
+
+    @Setup
+    public void setUp() {
+        values = new MutablePropertyValues();
+        if (payload.equals("valid")) {
+            values.add("itemName", "itemA").add("price", "10000").add("quantity", "10");
+        } else {
+            values.add("itemName", "").add("price", "10").add("quantity", "10000");
+        }
+
+        beanValidator = new LocalValidatorFactoryBean();
+        beanValidator.afterPropertiesSet();
+        itemValidator = new ItemValidator();
+        saveFormValidator = new ItemSaveFormValidator(beanValidator);
+
+        DiscardingItemRepository repository = new DiscardingItemRepository();
+        ItemPageETags eTags = new ItemPageETags(repository);
+        v1 = new ValidationItemControllerV1(repository, eTags);
+        v2 = new ValidationItemControllerV2(repository, eTags, itemValidator);
+        v3 = new ValidationItemControllerV3(repository, eTags);
+        v4 = new ValidationItemControllerV4(repository, eTags);
+    }
+
+    @TearDown
+    public void tearDown() {
+        saveFormValidator.destroy();
+        beanValidator.close();
+    }
+
+    @Benchmark
+    public String v1() {
+        WebDataBinder binder = bind(new Item(), "item");
+        return v1.addItem((Item) binder.getTarget(), new RedirectAttributesModelMap(), new ExtendedModelMap());
+    }
+
+    @Benchmark
+    public String v2Manual() {
+        WebDataBinder binder = bind(new Item(), "item");
+        return v2.addItemV1((Item) binder.getTarget(), binder.getBindingResult(),
+                new RedirectAttributesModelMap(), new ExtendedModelMap());
+    }
+
+    @Benchmark
+    public String v2RejectValue() {
+        WebDataBinder binder = bind(new Item(), "item");
+        return v2.addItemV4((Item) binder.getTarget(), binder.getBindingResult(),
+                new RedirectAttributesModelMap(), new ExtendedModelMap());
+    }
+
+    @Benchmark
+    public String v2InitBinder() {
+        WebDataBinder binder = bind(new Item(), "item");
+        binder.addValidators(itemValidator);
+        binder.validate();
+        return v2.addItemV6((Item) binder.getTarget(), binder.getBindingResult(),
+                new RedirectAttributesModelMap(), new ExtendedModelMap());
+    }
+
+    @Benchmark
+    public String v3() {
+        WebDataBinder binder = bind(new Item(), "item");
+        binder.setValidator(beanValidator);
+        binder.validate(SaveCheck.class);
+        return v3.addItem2((Item) binder.getTarget(), binder.getBindingResult(), new RedirectAttributesModelMap());
+    }
+
+    @Benchmark
+    public String v4() {
+        WebDataBinder binder = bind(new ItemSaveForm(), "item");
+        binder.setValidator(beanValidator);
+        binder.validate();
+        return v4.addItem((ItemSaveForm) binder.getTarget(), binder.getBindingResult(), new RedirectAttributesModelMap());
+    }
+
+    @Benchmark
+    public BindingResult apiFull() {
+        WebDataBinder binder = bind(new ItemSaveForm(), "itemSaveForm");
+        binder.setValidator(saveFormValidator);
+        binder.validate();
+        return binder.getBindingResult();
+    }
+
+    @Benchmark
+    public BindingResult apiFailFast() {
+        WebDataBinder binder = bind(new ItemSaveForm(), "itemSaveForm");
+        binder.setValidator(saveFormValidator);
+        binder.validate(FailFast.class);
+        return binder.getBindingResult();
+    }
+
+    // @ModelAttribute 처리와 같은 방식으로 바인딩
+    private WebDataBinder bind(Object target, String objectName) {
+        WebDataBinder binder = new WebDataBinder(target, objectName);
+        binder.bind(values);
+        return binder;
+    }
+}
@@ -2,8 +2,10 @@ package hello.itemservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 
-@SpringBootApplication
+// DataSource 는 item.repository.type=jdbc 일 때만 ItemRepositoryConfig 에서 만듦
+@SpringBootApplication(exclude = DataSourceAutoConfiguration.class)
 public class ItemServiceApplication {
 
 	public static void main(String[] args) {
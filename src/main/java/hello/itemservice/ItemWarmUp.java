@@ -0,0 +1,191 @@
+package hello.itemservice;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.SaveCheck;
+import hello.itemservice.domain.item.UpdateCheck;
+import hello.itemservice.web.validation.ItemSaveFormValidator;
+import hello.itemservice.web.validation.ItemValidator;
+import hello.itemservice.web.validation.form.FailFast;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemUpdateForm;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.MessageSource;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.ObjectError;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.bind.WebDataBinder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 배포 직후 첫 요청들이 느린 것(p99 튐)을 막기 위해 시작할 때 미리 item.warm-up.rounds 번 실행
+ * - Bean Validation 메타데이터 (Item, ItemSaveForm, ItemUpdateForm 그룹별)
+ * - BeanWrapper 프로퍼티 정보, 메시지 코드 캐시, 오류 메시지 (locale 별)
+ * - validation/v1~v4 화면 GET 요청 (템플릿 파싱, 표현식 캐시) - 실제 서버가 떠 있을 때만
+ *
+ * ApplicationRunner 는 ApplicationReadyEvent 전에 실행되므로
+ * 끝나기 전에는 readiness 가 ACCEPTING_TRAFFIC 이 되지 않는다
+ * 등록/수정 POST 는 보내지 않음 (저장소, 검증 메트릭에 흔적이 남지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "item.warm-up.enabled", havingValue = "true", matchIfMissing = true)
+public class ItemWarmUp implements ApplicationRunner {
+
+    private static final String[] VERSIONS = {"v1", "v2", "v3", "v4"};
+
+    private final ApplicationContext applicationContext;
+    private final ItemRepository itemRepository;
+    private final javax.validation.Validator validator;
+    private final ItemValidator itemValidator;
+    private final ItemSaveFormValidator itemSaveFormValidator;
+    private final MessageCodesResolver messageCodesResolver;
+    private final MessageSource messageSource;
+
+    @Value("${server.servlet.context-path:}")
+    private String contextPath;
+
+    @Value("${item.warm-up.rounds:3}")
+    private int rounds;
+
+    // 마지막 라운드 결과 (확인용)
+    private volatile int warmedErrors;
+    private volatile int warmedPages;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        List<ObjectError> errors = List.of();
+        int pages = 0;
+        // 한 번만으로는 캐시만 채워지고 코드는 여전히 인터프리터로 돌아서 몇 번 반복
+        for (int i = 0; i < rounds; i++) {
+            errors = warmUpValidation();
+            warmUpMessages(errors);
+            pages = warmUpPages();
+        }
+        warmedErrors = errors.size();
+        warmedPages = pages;
+        log.info("warm-up 완료 errors={} pages={} {}ms", errors.size(), pages, System.currentTimeMillis() - start);
+    }
+
+    int getWarmedErrors() {
+        return warmedErrors;
+    }
+
+    int getWarmedPages() {
+        return warmedPages;
+    }
+
+    private List<ObjectError> warmUpValidation() {
+        SpringValidatorAdapter beanValidator = new SpringValidatorAdapter(validator);
+        List<ObjectError> errors = new ArrayList<>();
+        for (MutablePropertyValues values : samples()) {
+            errors.addAll(bind(Item::new, "item", values, beanValidator, SaveCheck.class));
+            errors.addAll(bind(Item::new, "item", values, beanValidator, UpdateCheck.class));
+            errors.addAll(bind(Item::new, "item", values, itemValidator));
+            errors.addAll(bind(ItemSaveForm::new, "item", values, beanValidator));
+            errors.addAll(bind(ItemSaveForm::new, "itemSaveForm", values, itemSaveFormValidator, FailFast.class));
+            errors.addAll(bind(ItemUpdateForm::new, "item", new MutablePropertyValues(values).add("id", "1"), beanValidator));
+        }
+        return errors;
+    }
+
+    // 필드 오류, 범위 오류, typeMismatch 가 모두 나오도록
+    private static List<MutablePropertyValues> samples() {
+        return List.of(
+                new MutablePropertyValues().add("itemName", "").add("price", "10").add("quantity", "10000"),
+                new MutablePropertyValues().add("itemName", "itemA").add("price", "abc").add("quantity", "1"),
+                new MutablePropertyValues().add("itemName", "itemA").add("price", "10000").add("quantity", "10"));
+    }
+
+    private List<ObjectError> bind(Supplier<Object> target, String objectName, MutablePropertyValues values,
+                                   Validator validator, Object... hints) {
+        WebDataBinder binder = new WebDataBinder(target.get(), objectName);
+        binder.setMessageCodesResolver(messageCodesResolver);
+        binder.setValidator(validator);
+        binder.bind(values);
+        binder.validate(hints);
+        BindingResult bindingResult = binder.getBindingResult();
+        return bindingResult.getAllErrors();
+    }
+
+    private void warmUpMessages(List<ObjectError> errors) {
+        Set<Locale> locales = new LinkedHashSet<>(List.of(Locale.getDefault(), Locale.KOREAN, Locale.ENGLISH));
+        for (Locale locale : locales) {
+            for (ObjectError error : errors) {
+                try {
+                    messageSource.getMessage(error, locale);
+                } catch (NoSuchMessageException e) {
+                    // 기본 메시지도 없는 코드는 화면에서도 코드 그대로 나감
+                }
+            }
+        }
+    }
+
+    private int warmUpPages() {
+        if (!(applicationContext instanceof WebServerApplicationContext)) {
+            return 0; // MOCK 환경 (테스트) - 화면은 첫 요청 때 준비됨
+        }
+        int port = ((WebServerApplicationContext) applicationContext).getWebServer().getPort();
+        List<Item> items = itemRepository.findPage(null, 1);
+        String base = "http://localhost:" + port + contextPath + "/validation/";
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        int pages = 0;
+        for (String version : VERSIONS) {
+            List<String> paths = new ArrayList<>(List.of("/items", "/items/add"));
+            if (!items.isEmpty()) {
+                paths.add("/items/" + items.get(0).getId());
+                paths.add("/items/" + items.get(0).getId() + "/edit");
+            }
+            for (String path : paths) {
+                if (get(client, base + version + path)) {
+                    pages++;
+                }
+            }
+        }
+        return pages;
+    }
+
+    private static boolean get(HttpClient client, String url) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(10)).GET().build();
+        try {
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            if (status != 200) {
+                log.warn("warm-up 요청 실패 url={} status={}", url, status);
+            }
+            return status == 200;
+        } catch (IOException e) {
+            log.warn("warm-up 요청 실패 url={} {}", url, e.toString());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
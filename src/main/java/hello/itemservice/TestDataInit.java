@@ -2,24 +2,57 @@ package hello.itemservice;
 
 import hello.itemservice.domain.item.Item;
 import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemSnapshot;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class TestDataInit {
 
     private final ItemRepository itemRepository;
 
+    @Value("${item.snapshot.path:}")
+    private String snapshotPath;
+
+    @Value("${item.snapshot.save-on-shutdown:false}")
+    private boolean saveOnShutdown;
+
     /**
      * 테스트용 데이터 추가
      */
     @PostConstruct
     public void init() {
+        if (!snapshotPath.isEmpty() && Files.exists(Paths.get(snapshotPath))) {
+            long start = System.currentTimeMillis();
+            int count = ItemSnapshot.load(Paths.get(snapshotPath), itemRepository);
+            log.info("스냅샷 로딩 path={} items={} {}ms", snapshotPath, count, System.currentTimeMillis() - start);
+        }
+
+        // 스냅샷이나 로그에서 복구된 상품이 있으면 다시 넣지 않음
+        if (!itemRepository.findPage(null, 1).isEmpty()) {
+            return;
+        }
         itemRepository.save(new Item("itemA", 10000, 10));
         itemRepository.save(new Item("itemB", 20000, 20));
     }
 
+    @PreDestroy
+    public void saveSnapshot() {
+        if (saveOnShutdown && !snapshotPath.isEmpty()) {
+            Path path = Paths.get(snapshotPath);
+            int count = ItemSnapshot.write(itemRepository, path);
+            log.info("스냅샷 저장 path={} items={}", path, count);
+        }
+    }
+
 }
\ No newline at end of file
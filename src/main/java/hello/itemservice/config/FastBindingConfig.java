@@ -0,0 +1,64 @@
+package hello.itemservice.config;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.web.validation.FastModelAttributeMethodProcessor;
+import hello.itemservice.web.validation.FormBinder;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemUpdateForm;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * item.binding.fast=true 면 상품 폼 클래스의 @ModelAttribute 를 FormBinder 로 바인딩
+ * 기본 @ModelAttribute 처리기보다 앞에 있어야 해서 addArgumentResolvers(맨 뒤에 추가됨) 대신 맨 앞에 끼워 넣는다
+ */
+@Configuration
+@ConditionalOnProperty(name = "item.binding.fast", havingValue = "true")
+public class FastBindingConfig {
+
+    /**
+     * 프로퍼티가 바뀌면 여기도 같이 바꿔야 함 (FormBinderTest 가 기존 바인더와 결과를 비교)
+     */
+    public static List<FormBinder<?>> formBinders() {
+        return List.of(
+                FormBinder.of(Item.class, Item::new)
+                        .longProperty("id", Item::setId)
+                        .stringProperty("itemName", Item::setItemName)
+                        .integerProperty("price", Item::setPrice)
+                        .integerProperty("quantity", Item::setQuantity)
+                        .longProperty("version", Item::setVersion),
+                FormBinder.of(ItemSaveForm.class, ItemSaveForm::new)
+                        .stringProperty("itemName", ItemSaveForm::setItemName)
+                        .integerProperty("price", ItemSaveForm::setPrice)
+                        .integerProperty("quantity", ItemSaveForm::setQuantity),
+                FormBinder.of(ItemUpdateForm.class, ItemUpdateForm::new)
+                        .longProperty("id", ItemUpdateForm::setId)
+                        .stringProperty("itemName", ItemUpdateForm::setItemName)
+                        .integerProperty("price", ItemUpdateForm::setPrice)
+                        .integerProperty("quantity", ItemUpdateForm::setQuantity));
+    }
+
+    // 검증 메트릭 설치(SmartInitializingSingleton)보다 먼저 끼워 넣어야 같이 측정됨
+    @Bean
+    public static BeanPostProcessor fastModelAttributeInstaller() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof RequestMappingHandlerAdapter) {
+                    RequestMappingHandlerAdapter handlerAdapter = (RequestMappingHandlerAdapter) bean;
+                    List<HandlerMethodArgumentResolver> resolvers = new ArrayList<>(handlerAdapter.getArgumentResolvers());
+                    resolvers.add(0, new FastModelAttributeMethodProcessor(formBinders()));
+                    handlerAdapter.setArgumentResolvers(resolvers);
+                }
+                return bean;
+            }
+        };
+    }
+}
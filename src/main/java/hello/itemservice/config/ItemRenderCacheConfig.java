@@ -0,0 +1,42 @@
+package hello.itemservice.config;
+
+import hello.itemservice.web.validation.ItemFragmentCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+
+@Configuration
+public class ItemRenderCacheConfig {
+
+    /**
+     * 화면 템플릿에서 @itemFragmentCache 로 사용
+     */
+    @Bean
+    public ItemFragmentCache itemFragmentCache(SpringTemplateEngine templateEngine, ApplicationContext applicationContext,
+                                               @Value("${item.render-cache.max-bytes:4194304}") long maxBytes) {
+        return new ItemFragmentCache(templateEngine, applicationContext, maxBytes);
+    }
+
+    // 조각 캐시 적중률, 메모리 (MeterRegistry 생성 중에 불리므로 static)
+    @Bean
+    public static MeterBinder itemFragmentCacheMetrics(ItemFragmentCache fragmentCache) {
+        return registry -> {
+            FunctionCounter.builder("item.render.cache", fragmentCache, ItemFragmentCache::getHitCount)
+                    .tag("result", "hit").register(registry);
+            FunctionCounter.builder("item.render.cache", fragmentCache, ItemFragmentCache::getMissCount)
+                    .tag("result", "miss").register(registry);
+            FunctionCounter.builder("item.render.cache.evictions", fragmentCache, ItemFragmentCache::getEvictionCount)
+                    .register(registry);
+            Gauge.builder("item.render.cache.size", fragmentCache, ItemFragmentCache::size)
+                    .register(registry);
+            Gauge.builder("item.render.cache.bytes", fragmentCache, ItemFragmentCache::bytes)
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,138 @@
+package hello.itemservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import hello.itemservice.domain.item.BlockLeasingIdGenerator;
+import hello.itemservice.domain.item.ColumnarItemRepository;
+import hello.itemservice.domain.item.IdGenerator;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemWriteAheadLog;
+import hello.itemservice.domain.item.JdbcItemRepository;
+import hello.itemservice.domain.item.JournaledItemRepository;
+import hello.itemservice.domain.item.MemoryItemRepository;
+import hello.itemservice.domain.item.SequenceIdGenerator;
+import hello.itemservice.domain.item.ShardedItemRepository;
+import hello.itemservice.domain.item.SnowflakeIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+
+@Slf4j
+@Configuration
+public class ItemRepositoryConfig {
+
+    @Value("${item.repository.type:memory}")
+    private String type;
+
+    // 0 이면 CPU 코어 수
+    @Value("${item.repository.shards:0}")
+    private int shards;
+
+    @Value("${item.id.generator:sequence}")
+    private String idGenerator;
+
+    @Value("${item.id.node:0}")
+    private int idNode;
+
+    @Value("${item.id.block.path:data/item-id.block}")
+    private String idBlockPath;
+
+    @Value("${item.id.block.size:1000}")
+    private int idBlockSize;
+
+    @Value("${item.repository.jdbc.batch-size:500}")
+    private int jdbcBatchSize;
+
+    @Value("${item.repository.jdbc.page-size:1000}")
+    private int jdbcPageSize;
+
+    @Value("${item.wal.path:}")
+    private String walPath;
+
+    @Value("${item.wal.fsync:batch}")
+    private String walFsync;
+
+    @Value("${item.wal.batch-size:64}")
+    private int walBatchSize;
+
+    @Value("${item.wal.interval-millis:100}")
+    private long walIntervalMillis;
+
+    /**
+     * item.wal.path 가 있으면 시작할 때 로그를 재생해서 복구하고, 이후 변경은 로그에 남긴다
+     */
+    @Bean
+    public ItemRepository itemRepository(ObjectProvider<DataSource> dataSource) {
+        IdGenerator ids = itemIdGenerator();
+        ItemRepository repository = createRepository(dataSource, ids);
+        if (walPath.isEmpty()) {
+            return repository;
+        }
+
+        ItemWriteAheadLog wal = new ItemWriteAheadLog(Paths.get(walPath),
+                ItemWriteAheadLog.FsyncPolicy.valueOf(walFsync.toUpperCase()), walBatchSize, walIntervalMillis);
+        int replayed = wal.replay(repository::restore);
+        log.info("item wal 복구 path={} records={}", walPath, replayed);
+        return new JournaledItemRepository(repository, wal, ids);
+    }
+
+    /**
+     * memory   : ConcurrentSkipListMap 기반 (기본값)
+     * columnar : primitive 컬럼 기반, 상품이 아주 많을 때 힙 절약
+     * sharded  : id 해시로 나눈 memory 저장소 여러 개, 전체 스캔/조회를 코어 수만큼 나눠서 처리
+     * jdbc     : item.repository.jdbc.datasource.* 의 DB (로컬은 내장 H2), 이미 영속이라 wal 은 보통 끔
+     */
+    private ItemRepository createRepository(ObjectProvider<DataSource> dataSource, IdGenerator ids) {
+        switch (type) {
+            case "memory":
+                return new MemoryItemRepository(ids);
+            case "columnar":
+                return new ColumnarItemRepository(ids);
+            case "sharded":
+                return new ShardedItemRepository(shards > 0 ? shards : Runtime.getRuntime().availableProcessors(),
+                        ForkJoinPool.commonPool(), ids);
+            case "jdbc":
+                return new JdbcItemRepository(dataSource.getObject(), ids, jdbcBatchSize, jdbcPageSize);
+            default:
+                throw new IllegalArgumentException("지원하지 않는 item.repository.type = " + type);
+        }
+    }
+
+    /**
+     * jdbc 저장소용 커넥션 풀. item.repository.jdbc.datasource.* 를 HikariConfig 에 그대로 바인딩
+     * 다른 저장소 타입이면 등록하지 않음 (DataSourceAutoConfiguration 은 제외해 둠)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "item.repository.type", havingValue = "jdbc")
+    @ConfigurationProperties("item.repository.jdbc.datasource")
+    public HikariDataSource itemDataSource() {
+        return new HikariDataSource();
+    }
+
+    /**
+     * sequence  : 프로세스 안에서만 유일 (기본값, 인스턴스 하나)
+     * snowflake : 시각 + item.id.node + 순번, 노드 id 만 다르면 인스턴스끼리 조율 없이 유일
+     * block     : item.id.block.path 파일 카운터에서 item.id.block.size 개씩 빌려 씀 (파일을 같이 쓰는 인스턴스끼리 유일)
+     * 빈으로 등록해서 종료할 때 close (block 의 파일 채널)
+     */
+    @Bean
+    public IdGenerator itemIdGenerator() {
+        switch (idGenerator) {
+            case "sequence":
+                return new SequenceIdGenerator();
+            case "snowflake":
+                return new SnowflakeIdGenerator(idNode);
+            case "block":
+                return new BlockLeasingIdGenerator(Paths.get(idBlockPath), idBlockSize);
+            default:
+                throw new IllegalArgumentException("지원하지 않는 item.id.generator = " + idGenerator);
+        }
+    }
+}
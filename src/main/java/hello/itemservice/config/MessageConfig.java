@@ -0,0 +1,41 @@
+package hello.itemservice.config;
+
+import hello.itemservice.message.CompiledMessageSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.Charset;
+
+/**
+ * spring.messages.* 설정을 그대로 사용하는 CompiledMessageSource 등록
+ * 이름이 messageSource 인 빈이 있으면 스프링 부트 기본 ResourceBundleMessageSource 는 만들어지지 않는다
+ * item.messages.compiled=false 로 기본 MessageSource 로 되돌릴 수 있음
+ */
+@Configuration
+@ConditionalOnProperty(name = "item.messages.compiled", havingValue = "true", matchIfMissing = true)
+public class MessageConfig {
+
+    @Value("${spring.messages.basename:messages}")
+    private String basename;
+
+    @Value("${spring.messages.encoding:UTF-8}")
+    private Charset encoding;
+
+    @Value("${spring.messages.fallback-to-system-locale:true}")
+    private boolean fallbackToSystemLocale;
+
+    @Value("${spring.messages.use-code-as-default-message:false}")
+    private boolean useCodeAsDefaultMessage;
+
+    @Bean
+    public MessageSource messageSource() {
+        String[] basenames = StringUtils.commaDelimitedListToStringArray(StringUtils.trimAllWhitespace(basename));
+        CompiledMessageSource messageSource = new CompiledMessageSource(basenames, encoding, fallbackToSystemLocale);
+        messageSource.setUseCodeAsDefaultMessage(useCodeAsDefaultMessage);
+        return messageSource;
+    }
+}
@@ -0,0 +1,67 @@
+package hello.itemservice.config;
+
+import hello.itemservice.web.validation.CachingMessageCodesResolver;
+import hello.itemservice.web.validation.LenientJsonArgumentResolver;
+import hello.itemservice.web.validation.ValidationMetrics;
+import hello.itemservice.web.validation.ValidationMetricsArgumentResolver;
+import hello.itemservice.web.validation.ValidationMetricsInterceptor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.annotation.ModelAttributeMethodProcessor;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestResponseBodyMethodProcessor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class ValidationMetricsConfig implements WebMvcConfigurer {
+
+    private final ValidationMetrics validationMetrics;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ValidationMetricsInterceptor(validationMetrics));
+    }
+
+    /**
+     * 스프링이 만든 @ModelAttribute, @RequestBody (+ @LenientJson) 처리기를 측정용으로 감싸서 같은 자리에 다시 넣는다
+     */
+    @Bean
+    public static SmartInitializingSingleton validationMetricsInstaller(RequestMappingHandlerAdapter handlerAdapter,
+                                                                        ValidationMetrics validationMetrics) {
+        return () -> {
+            List<HandlerMethodArgumentResolver> resolvers = new ArrayList<>();
+            for (HandlerMethodArgumentResolver resolver : handlerAdapter.getArgumentResolvers()) {
+                if (resolver instanceof ModelAttributeMethodProcessor || resolver instanceof RequestResponseBodyMethodProcessor
+                        || resolver instanceof LenientJsonArgumentResolver) {
+                    resolver = new ValidationMetricsArgumentResolver(resolver, validationMetrics);
+                }
+                resolvers.add(resolver);
+            }
+            handlerAdapter.setArgumentResolvers(resolvers);
+        };
+    }
+
+    // 메시지 코드 캐시 적중률 (MeterRegistry 생성 중에 불리므로 static)
+    @Bean
+    public static MeterBinder messageCodesCacheMetrics(CachingMessageCodesResolver codesResolver) {
+        return registry -> {
+            FunctionCounter.builder("item.validation.message.codes", codesResolver, CachingMessageCodesResolver::getHitCount)
+                    .tag("result", "hit").register(registry);
+            FunctionCounter.builder("item.validation.message.codes", codesResolver, CachingMessageCodesResolver::getMissCount)
+                    .tag("result", "miss").register(registry);
+            Gauge.builder("item.validation.message.codes.size", codesResolver, CachingMessageCodesResolver::size)
+                    .register(registry);
+        };
+    }
+}
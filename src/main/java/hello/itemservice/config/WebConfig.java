@@ -0,0 +1,42 @@
+package hello.itemservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.itemservice.web.validation.CachingMessageCodesResolver;
+import hello.itemservice.web.validation.LenientJsonArgumentResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${item.validation.message-codes-cache-size:4096}")
+    private int messageCodesCacheSize;
+
+    @Bean
+    public CachingMessageCodesResolver cachingMessageCodesResolver() {
+        return new CachingMessageCodesResolver(messageCodesCacheSize);
+    }
+
+    /**
+     * 모든 바인더(@ModelAttribute, @RequestBody @Validated)가 같은 캐시를 사용
+     */
+    @Override
+    public MessageCodesResolver getMessageCodesResolver() {
+        return cachingMessageCodesResolver();
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new LenientJsonArgumentResolver(objectMapper));
+    }
+}
@@ -0,0 +1,137 @@
+package hello.itemservice.domain.item;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 파일에 저장된 카운터에서 blockSize 개씩 id 구간을 빌려 와서 그 안에서 발급
+ * 같은 파일을 쓰는 인스턴스(프로세스)끼리는 구간이 겹치지 않고, 구간 안에서는 조율 없이 AtomicLong 하나로 발급
+ *
+ * - 파일 = 다음에 빌려줄 첫 id (8바이트). 빌릴 때만 파일 락을 잡고 읽고 + blockSize 기록 + fsync
+ * - 빌려 간 구간은 되돌리지 않는다 -> 재시작하면 다 쓰지 못한 나머지는 버려짐 (id 에 빈 곳이 생길 뿐 겹치지 않음)
+ */
+@Slf4j
+public class BlockLeasingIdGenerator implements IdGenerator, AutoCloseable {
+
+    // 같은 JVM 안에서 같은 파일에 FileChannel.lock 을 두 번 잡으면 예외라서 JVM 안에서는 이 락으로 먼저 줄을 세움
+    private static final ConcurrentHashMap<Path, Object> LEASE_LOCKS = new ConcurrentHashMap<>();
+
+    private final Path path;
+    private final FileChannel channel;
+    private final int blockSize;
+    private final Object leaseLock;
+
+    private volatile Block block = new Block(0, 0); // 처음 호출할 때 빌림
+    private long floor; // observe 로 본 가장 큰 id (leaseLock)
+
+    public BlockLeasingIdGenerator(Path path, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("blockSize 는 1 이상이어야 합니다 = " + blockSize);
+        }
+        this.path = path.toAbsolutePath().normalize();
+        this.blockSize = blockSize;
+        this.leaseLock = LEASE_LOCKS.computeIfAbsent(this.path, p -> new Object());
+        try {
+            this.channel = FileChannel.open(this.path, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public long nextId() {
+        while (true) {
+            Block current = block;
+            long id = current.next.getAndIncrement();
+            if (id < current.end) {
+                return id;
+            }
+            lease(current);
+        }
+    }
+
+    @Override
+    public void observe(long id) {
+        synchronized (leaseLock) {
+            floor = Math.max(floor, id);
+            // 지금 구간에 복구된 id 보다 작은 값이 남아 있으면 버리고 새로 빌림
+            if (block.next.get() <= id) {
+                block = new Block(0, 0);
+            }
+        }
+    }
+
+    private void lease(Block exhausted) {
+        synchronized (leaseLock) {
+            if (block != exhausted) {
+                return; // 다른 스레드가 이미 새 구간을 빌려 옴
+            }
+            try {
+                FileLock lock = channel.lock();
+                try {
+                    long start = Math.max(readCounter(), floor + 1);
+                    writeCounter(start + blockSize);
+                    block = new Block(start, start + blockSize);
+                    log.debug("item id 구간 임대 path={} [{}, {})", path, start, start + blockSize);
+                } finally {
+                    lock.release();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // 파일이 비어 있으면 1 부터
+    private long readCounter() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+        long position = 0;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                break;
+            }
+            position += read;
+        }
+        return buffer.position() < Long.BYTES ? 1 : buffer.flip().getLong();
+    }
+
+    private void writeCounter(long next) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES).putLong(next).flip();
+        long position = 0;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        // 구간을 쓰기 전에 디스크까지 -> 장애 후 재시작해도 같은 구간을 다시 빌려주지 않음
+        channel.force(false);
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Block {
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
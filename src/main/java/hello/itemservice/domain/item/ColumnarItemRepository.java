@@ -0,0 +1,393 @@
+package hello.itemservice.domain.item;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 대량의 상품을 적은 힙으로 들고 있기 위한 컬럼형 저장소
+ * - 박싱 없이 primitive 배열(컬럼)에 값을 저장하고, id -> 행 번호는 open addressing 인덱스로 찾는다
+ * - 상품명은 같은 문자열을 하나만 들고 있도록 저장소 안에서 intern (쓰는 행이 없어진 이름은 풀에서 제거)
+ * - Item 객체는 조회할 때만 만들어서 돌려준다 (돌려준 객체를 고쳐도 저장소에는 영향 없음)
+ */
+public class ColumnarItemRepository implements ItemRepository {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // nulls 컬럼 비트
+    private static final byte PRICE_NULL = 1;
+    private static final byte QUANTITY_NULL = 1 << 1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] ids;
+    private int[] versions;
+    private int[] prices;
+    private int[] quantities;
+    private byte[] nulls;
+    private String[] names;
+    private int size;
+    private boolean sorted; // ids 컬럼이 오름차순인지 (복구로 순서가 섞이면 false)
+
+    private LongIntIndex index;
+    private final Map<String, PooledName> namePool = new HashMap<>();
+    private final IdGenerator idGenerator;
+    private volatile long catalogVersion; // 쓰기 락 안에서만 증가
+    private final ItemAggregates aggregates = new ItemAggregates();
+
+    public ColumnarItemRepository() {
+        this(new SequenceIdGenerator());
+    }
+
+    public ColumnarItemRepository(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+        reset();
+    }
+
+    @Override
+    public Item save(Item item) {
+        lock.writeLock().lock();
+        try {
+            item.setId(idGenerator.nextId());
+            item.setVersion(1L);
+            appendRow(item.getId(), 1, item);
+            catalogVersion++;
+            return item;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Item> saveAll(List<Item> items) {
+        lock.writeLock().lock();
+        try {
+            long[] ids = idGenerator.nextIds(items.size());
+            int i = 0;
+            for (Item item : items) {
+                item.setId(ids[i++]);
+                item.setVersion(1L);
+                appendRow(item.getId(), 1, item);
+            }
+            catalogVersion++;
+            return items;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Item findById(Long id) {
+        if (id == null) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            int row = index.get(id);
+            return row < 0 ? null : materialize(row);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Item> findAll() {
+        lock.readLock().lock();
+        try {
+            List<Item> result = new ArrayList<>(size);
+            for (int row = 0; row < size; row++) {
+                result.add(materialize(row));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Item> findPage(Long afterId, int limit) {
+        lock.readLock().lock();
+        try {
+            if (!sorted) {
+                return findPageUnsorted(afterId, limit);
+            }
+            // id는 보통 증가하는 순서로만 추가되므로 ids 컬럼은 정렬되어 있음 -> 이진 탐색
+            int from = 0;
+            if (afterId != null) {
+                int found = Arrays.binarySearch(ids, 0, size, afterId);
+                from = found >= 0 ? found + 1 : -found - 1;
+            }
+            int to = (int) Math.min(size, (long) from + limit);
+            List<Item> result = new ArrayList<>(Math.max(to - from, 0));
+            for (int row = from; row < to; row++) {
+                result.add(materialize(row));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Item> findPageUnsorted(Long afterId, int limit) {
+        List<Item> result = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            if (afterId == null || ids[row] > afterId) {
+                result.add(materialize(row));
+            }
+        }
+        result.sort((a, b) -> Long.compare(a.getId(), b.getId()));
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    @Override
+    public void update(Long itemId, Item updateParam) {
+        lock.writeLock().lock();
+        try {
+            int row = itemId == null ? -1 : index.get(itemId);
+            if (row < 0) {
+                return;
+            }
+            aggregates.remove(priceAt(row), quantityAt(row));
+            writeColumns(row, versions[row] + 1, updateParam);
+            aggregates.add(updateParam.getPrice(), updateParam.getQuantity());
+            catalogVersion++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void restore(Item item) {
+        restoreAll(List.of(item));
+    }
+
+    @Override
+    public void restoreAll(List<Item> items) {
+        lock.writeLock().lock();
+        try {
+            for (Item item : items) {
+                int version = Math.toIntExact(item.getVersion());
+                int row = index.get(item.getId());
+                if (row < 0) {
+                    appendRow(item.getId(), version, item);
+                } else if (versions[row] < version) {
+                    aggregates.remove(priceAt(row), quantityAt(row));
+                    writeColumns(row, version, item);
+                    aggregates.add(item.getPrice(), item.getQuantity());
+                }
+                idGenerator.observe(item.getId());
+            }
+            catalogVersion++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clearStore() {
+        lock.writeLock().lock();
+        try {
+            reset();
+            catalogVersion++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public long catalogVersion() {
+        return catalogVersion;
+    }
+
+    @Override
+    public ItemStats stats() {
+        return aggregates.snapshot();
+    }
+
+    private void reset() {
+        ids = new long[INITIAL_CAPACITY];
+        versions = new int[INITIAL_CAPACITY];
+        prices = new int[INITIAL_CAPACITY];
+        quantities = new int[INITIAL_CAPACITY];
+        nulls = new byte[INITIAL_CAPACITY];
+        names = new String[INITIAL_CAPACITY];
+        size = 0;
+        sorted = true;
+        index = new LongIntIndex(INITIAL_CAPACITY);
+        namePool.clear();
+        aggregates.clear();
+    }
+
+    private void appendRow(long id, int version, Item item) {
+        if (size == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            quantities = Arrays.copyOf(quantities, capacity);
+            nulls = Arrays.copyOf(nulls, capacity);
+            names = Arrays.copyOf(names, capacity);
+        }
+        if (size > 0 && ids[size - 1] > id) {
+            sorted = false;
+        }
+        int row = size++;
+        ids[row] = id;
+        writeColumns(row, version, item);
+        index.put(id, row);
+        aggregates.add(item.getPrice(), item.getQuantity());
+    }
+
+    private void writeColumns(int row, int version, Item item) {
+        byte flags = 0;
+        if (item.getPrice() == null) {
+            flags |= PRICE_NULL;
+        } else {
+            prices[row] = item.getPrice();
+        }
+        if (item.getQuantity() == null) {
+            flags |= QUANTITY_NULL;
+        } else {
+            quantities[row] = item.getQuantity();
+        }
+        nulls[row] = flags;
+        versions[row] = version;
+        // 같은 이름으로 수정하면 풀에서 빠졌다 들어가지 않도록 새 이름을 먼저 잡고 이전 이름을 놓음
+        String previous = names[row];
+        names[row] = intern(item.getItemName());
+        release(previous);
+    }
+
+    private String intern(String name) {
+        if (name == null) {
+            return null;
+        }
+        PooledName pooled = namePool.computeIfAbsent(name, PooledName::new);
+        pooled.rows++;
+        return pooled.value;
+    }
+
+    private void release(String name) {
+        if (name == null) {
+            return;
+        }
+        PooledName pooled = namePool.get(name);
+        if (--pooled.rows == 0) {
+            namePool.remove(name);
+        }
+    }
+
+    int namePoolSize() {
+        lock.readLock().lock();
+        try {
+            return namePool.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Integer priceAt(int row) {
+        return (nulls[row] & PRICE_NULL) != 0 ? null : prices[row];
+    }
+
+    private Integer quantityAt(int row) {
+        return (nulls[row] & QUANTITY_NULL) != 0 ? null : quantities[row];
+    }
+
+    private Item materialize(int row) {
+        Item item = new Item(names[row], priceAt(row), quantityAt(row));
+        item.setId(ids[row]);
+        item.setVersion((long) versions[row]);
+        return item;
+    }
+
+    // 풀에 있는 이름과 그 이름을 쓰는 행 수 (쓰기 락)
+    private static final class PooledName {
+        private final String value;
+        private int rows;
+
+        private PooledName(String value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * long 키 -> int 값 open addressing(linear probing) 해시 인덱스. 키 0은 빈 칸 표시로 사용
+     */
+    static final class LongIntIndex {
+
+        private long[] keys;
+        private int[] values;
+        private int size;
+
+        LongIntIndex(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(expected, 2) * 2 - 1) << 1;
+            keys = new long[capacity];
+            values = new int[capacity];
+        }
+
+        int get(long key) {
+            if (key == 0L) {
+                return -1; // 빈 칸 표시와 겹침 -> 저장될 수 없는 키
+            }
+            int mask = keys.length - 1;
+            for (int slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+                long k = keys[slot];
+                if (k == key) {
+                    return values[slot];
+                }
+                if (k == 0L) {
+                    return -1;
+                }
+            }
+        }
+
+        void put(long key, int value) {
+            if (key == 0L) {
+                throw new IllegalArgumentException("id 0은 저장할 수 없습니다.");
+            }
+            if ((size + 1) * 2 > keys.length) {
+                rehash(keys.length * 2);
+            }
+            if (insert(keys, values, key, value)) {
+                size++;
+            }
+        }
+
+        private void rehash(int capacity) {
+            long[] newKeys = new long[capacity];
+            int[] newValues = new int[capacity];
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != 0L) {
+                    insert(newKeys, newValues, keys[i], values[i]);
+                }
+            }
+            keys = newKeys;
+            values = newValues;
+        }
+
+        private static boolean insert(long[] keys, int[] values, long key, int value) {
+            int mask = keys.length - 1;
+            for (int slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+                if (keys[slot] == 0L) {
+                    keys[slot] = key;
+                    values[slot] = value;
+                    return true;
+                }
+                if (keys[slot] == key) {
+                    values[slot] = value;
+                    return false;
+                }
+            }
+        }
+
+        private static int mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package hello.itemservice.domain.item;
+
+/**
+ * 상품 id 발급기. 구현체는 ItemRepositoryConfig 에서 item.id.generator 로 선택
+ * 여러 스레드가 동시에 호출하므로 구현체는 스레드 안전해야 하고, 0 이하의 id 는 발급하지 않는다
+ */
+public interface IdGenerator {
+
+    long nextId();
+
+    /**
+     * 여러 건 저장용. 기본 구현은 nextId 를 count 번 (연속 블록을 잡을 수 있는 구현체는 재정의)
+     */
+    default long[] nextIds(int count) {
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = nextId();
+        }
+        return ids;
+    }
+
+    /**
+     * 로그/스냅샷에서 복구한 id. 이후에 같은 id 를 발급하지 않도록 필요한 구현체만 반영
+     */
+    default void observe(long id) {
+    }
+}
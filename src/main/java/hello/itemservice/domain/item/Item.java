@@ -22,6 +22,8 @@ public class Item {
 //    @Max(value = 9999, groups = {SaveCheck.class}) // 수정시 요구사항
     private Integer quantity;
 
+    private Long version; // 저장소가 관리, 수정될 때마다 새 버전으로 교체
+
     public Item() {
     }
 
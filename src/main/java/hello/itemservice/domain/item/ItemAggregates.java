@@ -0,0 +1,70 @@
+package hello.itemservice.domain.item;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 저장소가 쓰기마다 갱신하는 전체 상품 집계 -> stats() 를 전체 스캔 없이
+ * 가격 최소/최대는 수정 전 값을 빼야 할 때도 다시 찾을 수 있도록 가격별 상품 수로 관리
+ *
+ * 갱신과 스냅샷을 같은 락으로 묶어서 개수, 합계, 최소/최대가 항상 같은 시점의 값
+ * (임계 구역은 덧셈 몇 번과 TreeMap 갱신 하나)
+ */
+final class ItemAggregates {
+
+    private long count;
+    private long pricedCount;
+    private long priceSum;
+    private long inventoryValue;
+    private final TreeMap<Integer, Long> prices = new TreeMap<>();
+
+    synchronized void add(Item item) {
+        apply(item.getPrice(), item.getQuantity(), 1);
+    }
+
+    synchronized void add(Integer price, Integer quantity) {
+        apply(price, quantity, 1);
+    }
+
+    synchronized void remove(Integer price, Integer quantity) {
+        apply(price, quantity, -1);
+    }
+
+    /**
+     * 수정, 복구 - before 가 null 이면 추가
+     */
+    synchronized void replace(Item before, Item after) {
+        if (before != null) {
+            apply(before.getPrice(), before.getQuantity(), -1);
+        }
+        apply(after.getPrice(), after.getQuantity(), 1);
+    }
+
+    synchronized void clear() {
+        count = 0;
+        pricedCount = 0;
+        priceSum = 0;
+        inventoryValue = 0;
+        prices.clear();
+    }
+
+    synchronized ItemStats snapshot() {
+        Map.Entry<Integer, Long> min = prices.firstEntry();
+        Map.Entry<Integer, Long> max = prices.lastEntry();
+        return new ItemStats(count, pricedCount, priceSum, inventoryValue,
+                min == null ? null : min.getKey(), max == null ? null : max.getKey());
+    }
+
+    private void apply(Integer price, Integer quantity, int sign) {
+        count += sign;
+        if (price == null) {
+            return;
+        }
+        pricedCount += sign;
+        priceSum += sign * (long) price;
+        prices.merge(price, (long) sign, (a, b) -> a + b == 0 ? null : a + b);
+        if (quantity != null) {
+            inventoryValue += sign * (long) price * quantity;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package hello.itemservice.domain.item;
+
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * MemoryItemRepository 의 보조 인덱스 (상품명 해시 인덱스, 가격/수량 정렬 인덱스)
+ * 인덱스는 후보 id만 알려주고, 실제 값은 항상 저장소의 현재 스냅샷으로 다시 확인한다
+ */
+class ItemIndex {
+
+    private final Map<String, Set<Long>> byName = new ConcurrentHashMap<>();
+    private final NavigableSet<Entry> byPrice = new ConcurrentSkipListSet<>();
+    private final NavigableSet<Entry> byQuantity = new ConcurrentSkipListSet<>();
+
+    void add(Item item) {
+        link(null, item);
+    }
+
+    /**
+     * 수정 1단계: 바뀐 값의 새 항목 추가 (저장소 교체 전에 호출)
+     */
+    void link(Item before, Item after) {
+        long id = after.getId();
+        if (after.getItemName() != null && (before == null || !after.getItemName().equals(before.getItemName()))) {
+            byName.compute(after.getItemName(), (name, ids) -> {
+                Set<Long> result = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+                result.add(id);
+                return result;
+            });
+        }
+        if (after.getPrice() != null && (before == null || !after.getPrice().equals(before.getPrice()))) {
+            byPrice.add(new Entry(after.getPrice(), id));
+        }
+        if (after.getQuantity() != null && (before == null || !after.getQuantity().equals(before.getQuantity()))) {
+            byQuantity.add(new Entry(after.getQuantity(), id));
+        }
+    }
+
+    /**
+     * 수정 2단계: 바뀐 값의 이전 항목 제거 (저장소 교체 후에 호출)
+     * 조회 쪽에서 잠깐 두 항목이 다 보일 수는 있지만 상품이 빠지는 순간은 없다
+     */
+    void unlink(Item before, Item after) {
+        long id = before.getId();
+        if (before.getItemName() != null && !before.getItemName().equals(after.getItemName())) {
+            byName.computeIfPresent(before.getItemName(), (name, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+        if (before.getPrice() != null && !before.getPrice().equals(after.getPrice())) {
+            byPrice.remove(new Entry(before.getPrice(), id));
+        }
+        if (before.getQuantity() != null && !before.getQuantity().equals(after.getQuantity())) {
+            byQuantity.remove(new Entry(before.getQuantity(), id));
+        }
+    }
+
+    void clear() {
+        byName.clear();
+        byPrice.clear();
+        byQuantity.clear();
+    }
+
+    Set<Long> idsByName(String itemName) {
+        return byName.getOrDefault(itemName, Set.of());
+    }
+
+    NavigableSet<Entry> priceBetween(int min, int max) {
+        return between(byPrice, min, max);
+    }
+
+    NavigableSet<Entry> quantityBetween(int min, int max) {
+        return between(byQuantity, min, max);
+    }
+
+    private static NavigableSet<Entry> between(NavigableSet<Entry> index, int min, int max) {
+        if (min > max) {
+            return new ConcurrentSkipListSet<>();
+        }
+        return index.subSet(new Entry(min, Long.MIN_VALUE), true, new Entry(max, Long.MAX_VALUE), true);
+    }
+
+    /**
+     * (값, id) 순으로 정렬되는 인덱스 항목
+     */
+    static final class Entry implements Comparable<Entry> {
+
+        final int value;
+        final long id;
+
+        Entry(int value, long id) {
+            this.value = value;
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(Entry o) {
+            int result = Integer.compare(value, o.value);
+            return result != 0 ? result : Long.compare(id, o.id);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Entry && ((Entry) o).value == value && ((Entry) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * value + Long.hashCode(id);
+        }
+    }
+}
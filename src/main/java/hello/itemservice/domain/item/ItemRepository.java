@@ -1,41 +1,95 @@
 package hello.itemservice.domain.item;
 
-import org.springframework.stereotype.Repository;
-
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-@Repository
-public class ItemRepository {
+/**
+ * 상품 저장소. 구현체는 ItemRepositoryConfig 에서 item.repository.type 으로 선택
+ */
+public interface ItemRepository {
 
-    private static final Map<Long, Item> store = new HashMap<>(); //static
-    private static long sequence = 0L; //static
+    Item save(Item item);
 
-    public Item save(Item item) {
-        item.setId(++sequence);
-        store.put(item.getId(), item);
-        return item;
+    /**
+     * 여러 건 저장. 구현체는 id 를 한 번에 블록으로 할당해서 건별 오버헤드를 줄인다
+     */
+    default List<Item> saveAll(List<Item> items) {
+        for (Item item : items) {
+            save(item);
+        }
+        return items;
     }
 
-    public Item findById(Long id) {
-        return store.get(id);
+    Item findById(Long id);
+
+    List<Item> findAll();
+
+    /**
+     * id 순서대로 afterId 다음부터 최대 limit 개 (afterId 가 null 이면 처음부터)
+     */
+    List<Item> findPage(Long afterId, int limit);
+
+    /**
+     * 상품명이 정확히 같은 상품, id 순
+     * 기본 구현은 전체 스캔 - 인덱스가 있는 구현체는 재정의
+     */
+    default List<Item> findByItemName(String itemName) {
+        return findAll().stream()
+                .filter(item -> itemName != null && itemName.equals(item.getItemName()))
+                .sorted(Comparator.comparing(Item::getId))
+                .collect(Collectors.toList());
     }
 
-    public List<Item> findAll() {
-        return new ArrayList<>(store.values());
+    /**
+     * min <= price <= max 인 상품, 가격 순(같으면 id 순)으로 최대 limit 개
+     */
+    default List<Item> findByPriceBetween(int min, int max, int limit) {
+        return scanBetween(Item::getPrice, min, max, limit);
     }
 
-    public void update(Long itemId, Item updateParam) {
-        Item findItem = findById(itemId);
-        findItem.setItemName(updateParam.getItemName());
-        findItem.setPrice(updateParam.getPrice());
-        findItem.setQuantity(updateParam.getQuantity());
+    /**
+     * min <= quantity <= max 인 상품, 수량 순(같으면 id 순)으로 최대 limit 개
+     */
+    default List<Item> findByQuantityBetween(int min, int max, int limit) {
+        return scanBetween(Item::getQuantity, min, max, limit);
     }
 
-    public void clearStore() {
-        store.clear();
+    void update(Long itemId, Item updateParam);
+
+    /**
+     * 저장/수정/복구/삭제가 있을 때마다 올라가는 전체 상품 목록 버전 (목록 화면 ETag 용)
+     * 변경 내용이 보이게 된 뒤에 올라가므로, 버전을 먼저 읽고 조회하면 버전보다 오래된 내용을 보는 일은 없다
+     */
+    long catalogVersion();
+
+    /**
+     * 전체 상품 집계 (개수, 재고 금액, 가격 최소/최대/평균)
+     * 기본 구현은 전체 스캔 - 쓰기마다 집계를 유지하는 구현체는 재정의
+     */
+    default ItemStats stats() {
+        return ItemStats.of(findAll());
     }
 
+    /**
+     * 로그/스냅샷 복구용. id, version 을 그대로 넣되 이미 더 새 버전이 있으면 무시
+     */
+    void restore(Item item);
+
+    default void restoreAll(List<Item> items) {
+        for (Item item : items) {
+            restore(item);
+        }
+    }
+
+    void clearStore();
+
+    private List<Item> scanBetween(Function<Item, Integer> column, int min, int max, int limit) {
+        return findAll().stream()
+                .filter(item -> column.apply(item) != null && column.apply(item) >= min && column.apply(item) <= max)
+                .sorted(Comparator.comparing(column).thenComparing(Item::getId))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,190 @@
+package hello.itemservice.domain.item;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 저장소 전체를 한 파일로 덤프/복구하는 바이너리 스냅샷
+ *
+ * [magic "ITSN"][format 1byte][count int] [레코드...] [crc32 int]
+ * 레코드 = [flags 1byte][id varint][version varint][price int][quantity int][name 길이 varint][name utf-8]
+ */
+public final class ItemSnapshot {
+
+    private static final int MAGIC = 0x4954534E; // "ITSN"
+    private static final byte FORMAT = 1;
+    private static final int HEADER_SIZE = 4 + 1 + 4;
+    private static final int PAGE_SIZE = 10_000;
+
+    private static final byte NAME_NULL = 1;
+    private static final byte PRICE_NULL = 1 << 1;
+    private static final byte QUANTITY_NULL = 1 << 2;
+
+    private ItemSnapshot() {
+    }
+
+    /**
+     * 임시 파일에 다 쓴 다음 rename - 도중에 죽어도 기존 스냅샷은 그대로 남는다
+     */
+    public static int write(ItemRepository repository, Path path) {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            CRC32 crc = new CRC32();
+            buffer.putInt(MAGIC).put(FORMAT).putInt(0);
+
+            int count = 0;
+            Long afterId = null;
+            List<Item> page;
+            while (!(page = repository.findPage(afterId, PAGE_SIZE)).isEmpty()) {
+                for (Item item : page) {
+                    byte[] name = item.getItemName() == null ? new byte[0] : item.getItemName().getBytes(StandardCharsets.UTF_8);
+                    if (buffer.remaining() < 1 + 10 + 10 + 4 + 4 + 5 + name.length) {
+                        flush(channel, buffer, crc);
+                        if (buffer.remaining() < 1 + 10 + 10 + 4 + 4 + 5 + name.length) {
+                            buffer = ByteBuffer.allocate(name.length * 2 + 64);
+                        }
+                    }
+                    writeRecord(buffer, item, name);
+                    count++;
+                }
+                afterId = page.get(page.size() - 1).getId();
+            }
+            flush(channel, buffer, crc);
+
+            ByteBuffer trailer = ByteBuffer.allocate(4).putInt((int) crc.getValue());
+            trailer.flip();
+            channel.write(trailer);
+            ByteBuffer countBuffer = ByteBuffer.allocate(4).putInt(count);
+            countBuffer.flip();
+            channel.write(countBuffer, 5);
+            channel.force(true);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 파일을 메모리 맵으로 열어서 한 번에 읽고, PAGE_SIZE 개씩 묶어서 restoreAll
+     */
+    public static int load(Path path, ItemRepository repository) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + 4 || size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("스냅샷 파일 크기가 올바르지 않습니다. path=" + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC || buffer.get() != FORMAT) {
+                throw new IllegalStateException("지원하지 않는 스냅샷 형식입니다. path=" + path);
+            }
+            int count = buffer.getInt();
+
+            ByteBuffer body = buffer.duplicate().position(HEADER_SIZE).limit((int) size - 4);
+            CRC32 crc = new CRC32();
+            crc.update(body);
+            if ((int) crc.getValue() != buffer.getInt((int) size - 4)) {
+                throw new IllegalStateException("스냅샷 파일이 손상되었습니다. path=" + path);
+            }
+
+            List<Item> chunk = new ArrayList<>(Math.min(count, PAGE_SIZE));
+            for (int i = 0; i < count; i++) {
+                chunk.add(readRecord(buffer));
+                if (chunk.size() == PAGE_SIZE) {
+                    repository.restoreAll(chunk);
+                    chunk.clear();
+                }
+            }
+            repository.restoreAll(chunk);
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeRecord(ByteBuffer buffer, Item item, byte[] name) {
+        byte flags = 0;
+        if (item.getItemName() == null) {
+            flags |= NAME_NULL;
+        }
+        if (item.getPrice() == null) {
+            flags |= PRICE_NULL;
+        }
+        if (item.getQuantity() == null) {
+            flags |= QUANTITY_NULL;
+        }
+        buffer.put(flags);
+        putVarLong(buffer, item.getId());
+        putVarLong(buffer, item.getVersion());
+        buffer.putInt(item.getPrice() == null ? 0 : item.getPrice());
+        buffer.putInt(item.getQuantity() == null ? 0 : item.getQuantity());
+        putVarLong(buffer, name.length);
+        buffer.put(name);
+    }
+
+    private static Item readRecord(ByteBuffer buffer) {
+        byte flags = buffer.get();
+        long id = getVarLong(buffer);
+        long version = getVarLong(buffer);
+        int price = buffer.getInt();
+        int quantity = buffer.getInt();
+        byte[] name = new byte[(int) getVarLong(buffer)];
+        buffer.get(name);
+
+        Item item = new Item((flags & NAME_NULL) != 0 ? null : new String(name, StandardCharsets.UTF_8),
+                (flags & PRICE_NULL) != 0 ? null : price,
+                (flags & QUANTITY_NULL) != 0 ? null : quantity);
+        item.setId(id);
+        item.setVersion(version);
+        return item;
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer, CRC32 crc) throws IOException {
+        buffer.flip();
+        // 헤더는 crc 에서 제외 (count 는 나중에 채워 넣음)
+        if (channel.position() == 0) {
+            buffer.position(HEADER_SIZE);
+            crc.update(buffer);
+            buffer.position(0);
+        } else {
+            crc.update(buffer.duplicate());
+        }
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    // 7비트씩 끊어 쓰는 unsigned varint (id, version 은 음수가 아님)
+    private static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static long getVarLong(ByteBuffer buffer) {
+        long result = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buffer.get();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+    }
+}
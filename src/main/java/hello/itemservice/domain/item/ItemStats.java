@@ -0,0 +1,54 @@
+package hello.itemservice.domain.item;
+
+import lombok.Data;
+
+import java.util.Collection;
+
+/**
+ * 전체 상품 집계
+ * - inventoryValue : sum(price * quantity), 가격과 수량이 모두 있는 상품만
+ * - 가격 최소/최대/평균 : 가격이 있는 상품(pricedCount)만, 없으면 null
+ * 금액과 합계는 long (int 곱셈/합은 상품 몇 개만으로도 넘침)
+ */
+@Data
+public class ItemStats {
+
+    private final long count;
+    private final long pricedCount;
+    private final long priceSum;
+    private final long inventoryValue;
+    private final Integer priceMin;
+    private final Integer priceMax;
+
+    public Double getPriceAverage() {
+        return pricedCount == 0 ? null : (double) priceSum / pricedCount;
+    }
+
+    /**
+     * 전체를 다시 계산 (집계를 유지하지 않는 저장소, 검증용)
+     */
+    public static ItemStats of(Collection<Item> items) {
+        ItemAggregates aggregates = new ItemAggregates();
+        for (Item item : items) {
+            aggregates.add(item);
+        }
+        return aggregates.snapshot();
+    }
+
+    /**
+     * 샤드별 집계를 합침
+     */
+    public ItemStats plus(ItemStats other) {
+        return new ItemStats(count + other.count, pricedCount + other.pricedCount,
+                priceSum + other.priceSum, inventoryValue + other.inventoryValue,
+                min(priceMin, other.priceMin), max(priceMax, other.priceMax));
+    }
+
+    private static Integer min(Integer a, Integer b) {
+        return a == null ? b : b == null ? a : Integer.valueOf(Math.min(a, b));
+    }
+
+    private static Integer max(Integer a, Integer b) {
+        return a == null ? b : b == null ? a : Integer.valueOf(Math.max(a, b));
+    }
+}
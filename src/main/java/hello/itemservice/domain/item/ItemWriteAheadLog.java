@@ -0,0 +1,336 @@
+package hello.itemservice.domain.item;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * 상품 저장/수정 기록을 파일 끝에 계속 덧붙이는 write-ahead log
+ * 레코드 = [길이 int][crc32 int][본문], 본문에는 저장 시점의 상품 스냅샷 전체가 들어간다
+ * 재시작 시 replay 로 처음부터 읽어서 저장소를 다시 채운다 (버전이 더 높은 것이 이김)
+ *
+ * 기록이 중간에 실패하면 쓰기 전 위치로 잘라내서 반쪽 레코드 뒤에 다음 기록이 붙지 않게 한다
+ * (붙으면 replay 가 반쪽 레코드에서 멈추고 그 뒤의 정상 기록까지 버림). 잘라내지도 못하면 이후 기록은 모두 거절
+ */
+@Slf4j
+public class ItemWriteAheadLog implements AutoCloseable {
+
+    public enum FsyncPolicy {
+        ALWAYS,   // 기록할 때마다 fsync (동시에 들어온 기록은 한 번의 fsync로 같이 커밋)
+        BATCH,    // batchSize 건마다 fsync, 건수가 덜 차도 늦어도 intervalMillis 안에는 백그라운드에서
+        INTERVAL  // intervalMillis 마다 백그라운드에서 fsync
+    }
+
+    public static final byte SAVE = 1;
+    public static final byte UPDATE = 2;
+
+    private static final int HEADER_SIZE = 8;
+    private static final byte NAME_NULL = 1;
+    private static final byte PRICE_NULL = 1 << 1;
+    private static final byte QUANTITY_NULL = 1 << 2;
+
+    private final FileChannel channel;
+    private final FsyncPolicy policy;
+    private final int batchSize;
+    private final ScheduledExecutorService flusher;
+
+    private final Object writeLock = new Object();
+    private final Object syncLock = new Object();
+    private long written;          // 파일에 쓴 레코드 수 (writeLock)
+    private volatile long synced;  // fsync 까지 끝난 레코드 수
+    private boolean failed;        // 반쪽 레코드를 잘라내지 못함 (writeLock)
+
+    public ItemWriteAheadLog(Path path, FsyncPolicy policy, int batchSize, long intervalMillis) {
+        this(open(path), policy, batchSize, intervalMillis);
+    }
+
+    // 테스트에서 기록 실패를 흉내 낸 채널을 넣을 때
+    ItemWriteAheadLog(FileChannel channel, FsyncPolicy policy, int batchSize, long intervalMillis) {
+        try {
+            channel.position(channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.channel = channel;
+        this.policy = policy;
+        this.batchSize = Math.max(batchSize, 1);
+        if (policy != FsyncPolicy.ALWAYS) {
+            flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "item-wal-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::syncAll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            flusher = null;
+        }
+    }
+
+    /**
+     * 로그를 처음부터 읽어서 consumer 로 넘긴다. 마지막 레코드가 깨져 있으면(기록 도중 종료) 거기서 잘라낸다
+     * 이후의 append 는 유효한 마지막 레코드 뒤에 이어서 기록된다
+     */
+    public int replay(Consumer<Item> consumer) {
+        synchronized (writeLock) {
+            try {
+                long position = 0;
+                int count = 0;
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                while (true) {
+                    header.clear();
+                    if (readFully(header, position) < HEADER_SIZE) {
+                        break;
+                    }
+                    header.flip();
+                    int length = header.getInt();
+                    int crc = header.getInt();
+                    if (length <= 0 || position + HEADER_SIZE + length > channel.size()) {
+                        break;
+                    }
+                    ByteBuffer body = ByteBuffer.allocate(length);
+                    readFully(body, position + HEADER_SIZE);
+                    if (crc32(body.array(), length) != crc) {
+                        break;
+                    }
+                    body.flip();
+                    consumer.accept(decode(body));
+                    position += HEADER_SIZE + length;
+                    count++;
+                }
+                if (position < channel.size()) {
+                    log.warn("item wal: 깨진 꼬리 레코드 {} bytes 잘라냄", channel.size() - position);
+                    channel.truncate(position);
+                }
+                channel.position(position);
+                return count;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public void append(byte type, Item item) {
+        ByteBuffer record = encode(type, item);
+        long sequence;
+        synchronized (writeLock) {
+            write(record);
+            sequence = ++written;
+        }
+        if (policy == FsyncPolicy.ALWAYS
+                || (policy == FsyncPolicy.BATCH && sequence - synced >= batchSize)) {
+            sync(sequence);
+        }
+    }
+
+    /**
+     * 여러 건을 한 번의 write 와 (정책에 따라) 한 번의 fsync 로 기록
+     */
+    public void appendAll(byte type, List<Item> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        ByteBuffer[] records = new ByteBuffer[items.size()];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = encode(type, items.get(i));
+        }
+        long sequence;
+        synchronized (writeLock) {
+            write(records);
+            written += records.length;
+            sequence = written;
+        }
+        if (policy == FsyncPolicy.ALWAYS
+                || (policy == FsyncPolicy.BATCH && sequence - synced >= batchSize)) {
+            sync(sequence);
+        }
+    }
+
+    // 파일에는 썼지만 아직 fsync 되지 않은 레코드 수
+    long unsynced() {
+        synchronized (writeLock) {
+            return written - synced;
+        }
+    }
+
+    public void truncate() {
+        synchronized (writeLock) {
+            try {
+                channel.truncate(0);
+                channel.position(0);
+                channel.force(false);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        syncAll();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void syncAll() {
+        long target;
+        synchronized (writeLock) {
+            target = written;
+        }
+        sync(target);
+    }
+
+    /**
+     * group commit: 먼저 들어간 스레드가 fsync 하는 동안 쌓인 기록은 다음 fsync 한 번으로 같이 내려간다
+     */
+    private void sync(long sequence) {
+        if (synced >= sequence) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (synced >= sequence || !channel.isOpen()) {
+                return;
+            }
+            long target;
+            synchronized (writeLock) {
+                target = written;
+            }
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            synced = target;
+        }
+    }
+
+    // writeLock 안에서. 실패하면 쓰기 전 위치로 되돌린 뒤 예외
+    private void write(ByteBuffer... records) {
+        if (failed) {
+            throw new IllegalStateException("item wal 기록 실패 후 잘라내지 못해서 더 이상 기록할 수 없습니다");
+        }
+        long start;
+        try {
+            start = channel.position();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            long remaining = 0;
+            for (ByteBuffer record : records) {
+                remaining += record.remaining();
+            }
+            while (remaining > 0) {
+                remaining -= channel.write(records);
+            }
+        } catch (IOException e) {
+            rollback(start, e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void rollback(long start, IOException cause) {
+        try {
+            channel.truncate(start);
+            channel.position(start);
+        } catch (IOException e) {
+            failed = true;
+            cause.addSuppressed(e);
+            log.error("item wal: 기록 실패 후 position={} 로 잘라내지 못함, 이후 기록 거절", start, e);
+        }
+    }
+
+    private static FileChannel open(Path path) {
+        try {
+            return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int readFully(ByteBuffer buffer, long position) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    private static ByteBuffer encode(byte type, Item item) {
+        byte[] name = item.getItemName() == null ? new byte[0] : item.getItemName().getBytes(StandardCharsets.UTF_8);
+        byte flags = 0;
+        if (item.getItemName() == null) {
+            flags |= NAME_NULL;
+        }
+        if (item.getPrice() == null) {
+            flags |= PRICE_NULL;
+        }
+        if (item.getQuantity() == null) {
+            flags |= QUANTITY_NULL;
+        }
+        int length = 1 + 8 + 8 + 1 + 4 + 4 + 4 + name.length;
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + length);
+        buffer.position(HEADER_SIZE);
+        buffer.put(type)
+                .putLong(item.getId())
+                .putLong(item.getVersion())
+                .put(flags)
+                .putInt(item.getPrice() == null ? 0 : item.getPrice())
+                .putInt(item.getQuantity() == null ? 0 : item.getQuantity())
+                .putInt(name.length)
+                .put(name);
+        buffer.putInt(0, length);
+        buffer.putInt(4, crc32(buffer.array(), HEADER_SIZE, length));
+        buffer.flip();
+        return buffer;
+    }
+
+    private static Item decode(ByteBuffer body) {
+        body.get(); // type - 복구할 때는 저장/수정 구분 없이 버전으로 판단
+        long id = body.getLong();
+        long version = body.getLong();
+        byte flags = body.get();
+        int price = body.getInt();
+        int quantity = body.getInt();
+        byte[] name = new byte[body.getInt()];
+        body.get(name);
+
+        Item item = new Item((flags & NAME_NULL) != 0 ? null : new String(name, StandardCharsets.UTF_8),
+                (flags & PRICE_NULL) != 0 ? null : price,
+                (flags & QUANTITY_NULL) != 0 ? null : quantity);
+        item.setId(id);
+        item.setVersion(version);
+        return item;
+    }
+
+    private static int crc32(byte[] bytes, int length) {
+        return crc32(bytes, 0, length);
+    }
+
+    private static int crc32(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+}
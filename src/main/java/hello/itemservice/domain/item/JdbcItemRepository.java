@@ -0,0 +1,315 @@
+package hello.itemservice.domain.item;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DB 저장소 (로컬은 내장 H2, 커넥션 풀은 item.repository.jdbc.datasource.*)
+ * 여러 인스턴스가 같은 DB 를 쓸 수 있음 -> id 는 인스턴스끼리 겹치지 않는 발급기(snowflake, block)와 같이 사용
+ *
+ * - saveAll : PreparedStatement 하나에 batchSize 개씩 addBatch, 전체를 한 트랜잭션으로
+ * - findAll / findPage : offset 없이 id > ? order by id limit ? (keyset) -> 뒤쪽 페이지도 인덱스로 바로 찾아감
+ * - 목록 버전(catalogVersion)은 item_catalog 한 행, 변경과 같은 트랜잭션에서 올림
+ *   그래서 저장/수정/복구는 모두 이 행의 락을 커밋까지 잡는다 -> 같은 DB 를 쓰는 모든 인스턴스의 쓰기가 한 줄로 섬
+ *   (쓰기 처리량의 상한. 대량 등록은 saveAll 로 묶어서 한 번만 올리기)
+ */
+@Slf4j
+public class JdbcItemRepository implements ItemRepository {
+
+    // 내장 H2 기준 DDL, 시작할 때 없으면 만든다
+    private static final String[] SCHEMA = {
+            "create table if not exists item (" +
+                    "id bigint primary key, item_name varchar(255), price int, quantity int, version bigint not null)",
+            "create index if not exists item_name_idx on item (item_name, id)",
+            "create index if not exists item_price_idx on item (price, id)",
+            "create index if not exists item_quantity_idx on item (quantity, id)",
+            "create table if not exists item_catalog (id int primary key, version bigint not null)"
+    };
+
+    private static final String COLUMNS = "select id, item_name, price, quantity, version from item";
+    private static final String INSERT = "insert into item (id, item_name, price, quantity, version) values (?, ?, ?, ?, ?)";
+    private static final String SELECT_BY_ID = COLUMNS + " where id = ?";
+    private static final String SELECT_PAGE = COLUMNS + " where id > ? order by id limit ?";
+    private static final String UPDATE = "update item set item_name = ?, price = ?, quantity = ?, version = version + 1 where id = ?";
+    // 더 새 버전이 있으면 0 건
+    private static final String RESTORE = "update item set item_name = ?, price = ?, quantity = ?, version = ? where id = ? and version < ?";
+    private static final String BUMP_CATALOG = "update item_catalog set version = version + 1 where id = 1";
+
+    private static final RowMapper<Item> ITEM_MAPPER = (rs, rowNum) -> toItem(rs);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    // 트랜잭션 안에서 savepoint 로 (실패한 문장 하나만 되돌림)
+    private final TransactionTemplate savepointTemplate;
+    private final IdGenerator idGenerator;
+    private final int batchSize;
+    private final int pageSize;
+
+    public JdbcItemRepository(DataSource dataSource) {
+        this(dataSource, new SequenceIdGenerator(), 500, 1000);
+    }
+
+    /**
+     * @param batchSize saveAll/restoreAll 에서 executeBatch 한 번에 보내는 행 수
+     * @param pageSize  findAll 이 keyset 으로 한 번에 읽는 행 수
+     */
+    public JdbcItemRepository(DataSource dataSource, IdGenerator idGenerator, int batchSize, int pageSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.savepointTemplate = new TransactionTemplate(transactionManager);
+        savepointTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        this.idGenerator = idGenerator;
+        this.batchSize = batchSize;
+        this.pageSize = pageSize;
+        initSchema();
+    }
+
+    private void initSchema() {
+        for (String ddl : SCHEMA) {
+            jdbcTemplate.execute(ddl);
+        }
+        try {
+            jdbcTemplate.update("insert into item_catalog (id, version) values (1, 0)");
+        } catch (DuplicateKeyException e) {
+            // 이미 있음 (재시작, 다른 인스턴스)
+        }
+        // DB 에 이미 있는 id 뒤부터 발급 (sequence 로 재시작해도 겹치지 않게)
+        Long maxId = jdbcTemplate.queryForObject("select max(id) from item", Long.class);
+        if (maxId != null) {
+            idGenerator.observe(maxId);
+        }
+        log.info("item jdbc 저장소 maxId={}", maxId);
+    }
+
+    // 변경과 목록 버전을 한 트랜잭션으로 -> 둘 중 하나만 반영되는 일이 없음 (버전만 안 올라가서 ETag 가 오래된 목록에 304 를 주는 일)
+    @Override
+    public Item save(Item item) {
+        item.setId(idGenerator.nextId());
+        item.setVersion(1L);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(INSERT, ps -> bindInsert(ps, item));
+            jdbcTemplate.update(BUMP_CATALOG);
+        });
+        return item;
+    }
+
+    /**
+     * 건별 커밋 대신 한 트랜잭션 + JDBC 배치 (같은 PreparedStatement 를 batchSize 개씩 재사용)
+     * 목록 버전도 같은 트랜잭션에서 한 번만 올림
+     */
+    @Override
+    public List<Item> saveAll(List<Item> items) {
+        if (items.isEmpty()) {
+            return items;
+        }
+        long[] ids = idGenerator.nextIds(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            items.get(i).setId(ids[i]);
+            items.get(i).setVersion(1L);
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT, items, batchSize, JdbcItemRepository::bindInsert);
+            jdbcTemplate.update(BUMP_CATALOG);
+        });
+        return items;
+    }
+
+    @Override
+    public Item findById(Long id) {
+        List<Item> result = jdbcTemplate.query(SELECT_BY_ID, ITEM_MAPPER, id);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    /**
+     * pageSize 씩 keyset 으로 끝까지. 커넥션과 PreparedStatement 하나를 모든 페이지에 재사용
+     * 한 시점의 스냅샷은 아님 (읽는 도중 저장된 상품은 보일 수도 있고 안 보일 수도 있음 - memory 저장소와 같음)
+     */
+    @Override
+    public List<Item> findAll() {
+        return jdbcTemplate.execute((ConnectionCallback<List<Item>>) connection -> {
+            List<Item> result = new ArrayList<>();
+            try (PreparedStatement ps = connection.prepareStatement(SELECT_PAGE)) {
+                long afterId = Long.MIN_VALUE;
+                while (true) {
+                    int read = readPage(ps, afterId, pageSize, result);
+                    if (read < pageSize) {
+                        return result;
+                    }
+                    afterId = result.get(result.size() - 1).getId();
+                }
+            }
+        });
+    }
+
+    @Override
+    public List<Item> findPage(Long afterId, int limit) {
+        return jdbcTemplate.query(SELECT_PAGE, ITEM_MAPPER, afterId == null ? Long.MIN_VALUE : afterId, limit);
+    }
+
+    @Override
+    public List<Item> findByItemName(String itemName) {
+        if (itemName == null) {
+            return new ArrayList<>();
+        }
+        return jdbcTemplate.query(COLUMNS + " where item_name = ? order by id", ITEM_MAPPER, itemName);
+    }
+
+    @Override
+    public List<Item> findByPriceBetween(int min, int max, int limit) {
+        return jdbcTemplate.query(COLUMNS + " where price between ? and ? order by price, id limit ?",
+                ITEM_MAPPER, min, max, limit);
+    }
+
+    @Override
+    public List<Item> findByQuantityBetween(int min, int max, int limit) {
+        return jdbcTemplate.query(COLUMNS + " where quantity between ? and ? order by quantity, id limit ?",
+                ITEM_MAPPER, min, max, limit);
+    }
+
+    // 버전은 DB 에서 올림 -> 인스턴스가 여러 개여도 같은 상품의 수정끼리 버전이 겹치지 않음
+    @Override
+    public void update(Long itemId, Item updateParam) {
+        transactionTemplate.executeWithoutResult(status -> {
+            int updated = jdbcTemplate.update(UPDATE, ps -> {
+                bindColumns(ps, updateParam);
+                ps.setLong(4, itemId);
+            });
+            if (updated > 0) {
+                jdbcTemplate.update(BUMP_CATALOG);
+            }
+        });
+    }
+
+    @Override
+    public void restore(Item item) {
+        restoreAll(List.of(item));
+    }
+
+    // 스냅샷 복구처럼 건수가 많을 때 건별 커밋 대신 한 트랜잭션
+    @Override
+    public void restoreAll(List<Item> items) {
+        transactionTemplate.executeWithoutResult(status -> {
+            boolean restored = false;
+            for (Item item : items) {
+                if (restoreRow(item)) {
+                    idGenerator.observe(item.getId());
+                    restored = true;
+                }
+            }
+            if (restored) {
+                jdbcTemplate.update(BUMP_CATALOG);
+            }
+        });
+    }
+
+    /**
+     * 더 새 버전이 있으면 덮어쓰지 않음. 없는 id 면 insert, 그 사이 누가 넣었으면 한 번 더 버전 비교
+     * insert 는 savepoint 안에서 -> PostgreSQL 처럼 실패한 문장이 트랜잭션 전체를 막는 DB 에서도 다시 시도할 수 있음
+     */
+    private boolean restoreRow(Item item) {
+        int updated = jdbcTemplate.update(RESTORE, ps -> {
+            bindColumns(ps, item);
+            ps.setLong(4, item.getVersion());
+            ps.setLong(5, item.getId());
+            ps.setLong(6, item.getVersion());
+        });
+        if (updated > 0) {
+            return true;
+        }
+        if (jdbcTemplate.queryForObject("select count(*) from item where id = ?", Integer.class, item.getId()) > 0) {
+            return false;
+        }
+        try {
+            savepointTemplate.executeWithoutResult(status -> jdbcTemplate.update(INSERT, ps -> bindInsert(ps, item)));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return restoreRow(item);
+        }
+    }
+
+    @Override
+    public void clearStore() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("delete from item");
+            jdbcTemplate.update(BUMP_CATALOG);
+        });
+    }
+
+    @Override
+    public long catalogVersion() {
+        return jdbcTemplate.queryForObject("select version from item_catalog where id = 1", Long.class);
+    }
+
+    /**
+     * 집계는 DB 에서 한 번에 (long 으로 계산해서 넘치지 않게). null 은 sum/count/min/max 에서 빠지므로 메모리 집계와 같은 결과
+     */
+    @Override
+    public ItemStats stats() {
+        return jdbcTemplate.queryForObject("select count(*), count(price), coalesce(sum(cast(price as bigint)), 0), " +
+                        "coalesce(sum(cast(price as bigint) * quantity), 0), min(price), max(price) from item",
+                (rs, rowNum) -> new ItemStats(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4),
+                        getInteger(rs, 5), getInteger(rs, 6)));
+    }
+
+    private static int readPage(PreparedStatement ps, long afterId, int limit, List<Item> result) throws SQLException {
+        ps.setLong(1, afterId);
+        ps.setInt(2, limit);
+        int read = 0;
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                result.add(toItem(rs));
+                read++;
+            }
+        }
+        return read;
+    }
+
+    private static void bindInsert(PreparedStatement ps, Item item) throws SQLException {
+        ps.setLong(1, item.getId());
+        ps.setString(2, item.getItemName());
+        setInteger(ps, 3, item.getPrice());
+        setInteger(ps, 4, item.getQuantity());
+        ps.setLong(5, item.getVersion());
+    }
+
+    private static void bindColumns(PreparedStatement ps, Item item) throws SQLException {
+        ps.setString(1, item.getItemName());
+        setInteger(ps, 2, item.getPrice());
+        setInteger(ps, 3, item.getQuantity());
+    }
+
+    private static Item toItem(ResultSet rs) throws SQLException {
+        Item item = new Item(rs.getString(2), getInteger(rs, 3), getInteger(rs, 4));
+        item.setId(rs.getLong(1));
+        item.setVersion(rs.getLong(5));
+        return item;
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.INTEGER);
+        } else {
+            ps.setInt(index, value);
+        }
+    }
+
+    private static Integer getInteger(ResultSet rs, int index) throws SQLException {
+        int value = rs.getInt(index);
+        return rs.wasNull() ? null : value;
+    }
+}
@@ -0,0 +1,146 @@
+package hello.itemservice.domain.item;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 다른 저장소 앞에 붙어서 저장/수정을 write-ahead log 에 남기는 저장소
+ * 조회는 그대로 위임하고, 로그에는 변경 후의 스냅샷(버전 포함)을 기록한다
+ *
+ * 저장/수정할 id, 버전을 여기서 먼저 정하고 로그에 쓴 다음 delegate.restore 로 반영
+ * -> 로그 기록이 실패하면 저장소는 그대로 (호출한 쪽이 본 변경은 항상 로그에 먼저 있음)
+ */
+public class JournaledItemRepository implements ItemRepository, AutoCloseable {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final ItemRepository delegate;
+    private final ItemWriteAheadLog wal;
+    private final IdGenerator idGenerator;
+
+    // 같은 상품의 수정끼리 직렬화 (현재 버전 읽기 -> 로그 -> 반영을 한 묶음으로)
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    /**
+     * @param idGenerator delegate 와 같은 발급기 (로그 재생 때 delegate.restore 가 본 id 뒤부터 발급)
+     */
+    public JournaledItemRepository(ItemRepository delegate, ItemWriteAheadLog wal, IdGenerator idGenerator) {
+        this.delegate = delegate;
+        this.wal = wal;
+        this.idGenerator = idGenerator;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    @Override
+    public Item save(Item item) {
+        Item next = copyOf(item, idGenerator.nextId(), 1L);
+        wal.append(ItemWriteAheadLog.SAVE, next);
+        delegate.restore(next);
+        item.setId(next.getId());
+        item.setVersion(next.getVersion());
+        return item;
+    }
+
+    @Override
+    public List<Item> saveAll(List<Item> items) {
+        long[] ids = idGenerator.nextIds(items.size());
+        List<Item> next = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            next.add(copyOf(items.get(i), ids[i], 1L));
+        }
+        wal.appendAll(ItemWriteAheadLog.SAVE, next);
+        delegate.restoreAll(next);
+        for (int i = 0; i < items.size(); i++) {
+            items.get(i).setId(ids[i]);
+            items.get(i).setVersion(1L);
+        }
+        return items;
+    }
+
+    @Override
+    public Item findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Item> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Item> findPage(Long afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public List<Item> findByItemName(String itemName) {
+        return delegate.findByItemName(itemName);
+    }
+
+    @Override
+    public List<Item> findByPriceBetween(int min, int max, int limit) {
+        return delegate.findByPriceBetween(min, max, limit);
+    }
+
+    @Override
+    public List<Item> findByQuantityBetween(int min, int max, int limit) {
+        return delegate.findByQuantityBetween(min, max, limit);
+    }
+
+    @Override
+    public void update(Long itemId, Item updateParam) {
+        synchronized (lockFor(itemId)) {
+            Item current = delegate.findById(itemId);
+            if (current == null) {
+                return;
+            }
+            Item next = copyOf(updateParam, itemId, current.getVersion() + 1);
+            wal.append(ItemWriteAheadLog.UPDATE, next);
+            delegate.restore(next);
+        }
+    }
+
+    @Override
+    public long catalogVersion() {
+        return delegate.catalogVersion();
+    }
+
+    @Override
+    public ItemStats stats() {
+        return delegate.stats();
+    }
+
+    @Override
+    public void restore(Item item) {
+        delegate.restore(item);
+    }
+
+    @Override
+    public void restoreAll(List<Item> items) {
+        delegate.restoreAll(items);
+    }
+
+    @Override
+    public void clearStore() {
+        delegate.clearStore();
+        wal.truncate();
+    }
+
+    @Override
+    public void close() {
+        wal.close();
+    }
+
+    private Object lockFor(Long id) {
+        return locks[(int) (id & (LOCK_STRIPES - 1))];
+    }
+
+    private static Item copyOf(Item item, long id, long version) {
+        Item copy = new Item(item.getItemName(), item.getPrice(), item.getQuantity());
+        copy.setId(id);
+        copy.setVersion(version);
+        return copy;
+    }
+}
@@ -0,0 +1,203 @@
+package hello.itemservice.domain.item;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class MemoryItemRepository implements ItemRepository {
+
+    private static final int LOCK_STRIPES = 64;
+
+    // 여러 요청 스레드가 동시에 접근 -> 조회는 락 없이, 쓰기는 CAS
+    // id 순으로 정렬된 skip list라서 목록/페이지 조회가 항상 같은 순서
+    // 싱글톤 빈이므로 static일 필요 없음 (테스트마다 새 인스턴스로 격리됨)
+    private final NavigableMap<Long, Item> store = new ConcurrentSkipListMap<>();
+    private final IdGenerator idGenerator;
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final ItemIndex index = new ItemIndex();
+    private final ItemAggregates aggregates = new ItemAggregates();
+
+    // 같은 상품의 수정끼리만 직렬화 (저장소 교체 + 인덱스 갱신을 한 묶음으로)
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public MemoryItemRepository() {
+        this(new SequenceIdGenerator());
+    }
+
+    public MemoryItemRepository(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    // 저장소에 들어간 Item은 절대 수정하지 않는다(copy-on-write)
+    // -> 조회하는 쪽은 락 없이도 항상 한 버전의 일관된 값만 보게 됨
+    @Override
+    public Item save(Item item) {
+        item.setId(idGenerator.nextId());
+        item.setVersion(1L);
+        Item stored = copyOf(item, item.getVersion());
+        store.put(stored.getId(), stored);
+        index.add(stored);
+        aggregates.add(stored);
+        catalogVersion.incrementAndGet();
+        return item;
+    }
+
+    @Override
+    public List<Item> saveAll(List<Item> items) {
+        long[] ids = idGenerator.nextIds(items.size());
+        int i = 0;
+        for (Item item : items) {
+            item.setId(ids[i++]);
+            item.setVersion(1L);
+            Item stored = copyOf(item, item.getVersion());
+            store.put(stored.getId(), stored);
+            index.add(stored);
+            aggregates.add(stored);
+        }
+        catalogVersion.incrementAndGet();
+        return items;
+    }
+
+    @Override
+    public Item findById(Long id) {
+        return store.get(id);
+    }
+
+    @Override
+    public List<Item> findAll() {
+        return new ArrayList<>(store.values());
+    }
+
+    @Override
+    public List<Item> findPage(Long afterId, int limit) {
+        NavigableMap<Long, Item> tail = afterId == null ? store : store.tailMap(afterId, false);
+        List<Item> result = new ArrayList<>(Math.min(limit, 64));
+        for (Item item : tail.values()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(item);
+        }
+        return result;
+    }
+
+    @Override
+    public List<Item> findByItemName(String itemName) {
+        List<Item> result = new ArrayList<>();
+        if (itemName == null) {
+            return result;
+        }
+        for (Long id : index.idsByName(itemName)) {
+            Item item = store.get(id);
+            if (item != null && itemName.equals(item.getItemName())) {
+                result.add(item);
+            }
+        }
+        result.sort((a, b) -> Long.compare(a.getId(), b.getId()));
+        return result;
+    }
+
+    @Override
+    public List<Item> findByPriceBetween(int min, int max, int limit) {
+        List<Item> result = new ArrayList<>();
+        for (ItemIndex.Entry entry : index.priceBetween(min, max)) {
+            if (result.size() >= limit) {
+                break;
+            }
+            Item item = store.get(entry.id);
+            // 인덱스 갱신 중에 남아있는 이전 값은 건너뜀
+            if (item != null && Objects.equals(item.getPrice(), entry.value)) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Item> findByQuantityBetween(int min, int max, int limit) {
+        List<Item> result = new ArrayList<>();
+        for (ItemIndex.Entry entry : index.quantityBetween(min, max)) {
+            if (result.size() >= limit) {
+                break;
+            }
+            Item item = store.get(entry.id);
+            if (item != null && Objects.equals(item.getQuantity(), entry.value)) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void update(Long itemId, Item updateParam) {
+        // 기존 객체를 고치지 않고 새 버전을 만들어 통째로 교체
+        synchronized (lockFor(itemId)) {
+            Item findItem = store.get(itemId);
+            if (findItem == null) {
+                return;
+            }
+            Item next = copyOf(updateParam, findItem.getVersion() + 1);
+            next.setId(itemId);
+            index.link(findItem, next);
+            store.put(itemId, next);
+            index.unlink(findItem, next);
+            aggregates.replace(findItem, next);
+        }
+        catalogVersion.incrementAndGet();
+    }
+
+    @Override
+    public void restore(Item item) {
+        Item restored = copyOf(item, item.getVersion());
+        synchronized (lockFor(restored.getId())) {
+            Item current = store.get(restored.getId());
+            if (current != null && current.getVersion() >= restored.getVersion()) {
+                return;
+            }
+            index.link(current, restored);
+            store.put(restored.getId(), restored);
+            if (current != null) {
+                index.unlink(current, restored);
+            }
+            aggregates.replace(current, restored);
+        }
+        idGenerator.observe(restored.getId());
+        catalogVersion.incrementAndGet();
+    }
+
+    @Override
+    public void clearStore() {
+        store.clear();
+        index.clear();
+        aggregates.clear();
+        catalogVersion.incrementAndGet();
+    }
+
+    @Override
+    public long catalogVersion() {
+        return catalogVersion.get();
+    }
+
+    @Override
+    public ItemStats stats() {
+        return aggregates.snapshot();
+    }
+
+    private Object lockFor(Long id) {
+        return locks[(int) (id & (LOCK_STRIPES - 1))];
+    }
+
+    private static Item copyOf(Item item, long version) {
+        Item copy = new Item(item.getItemName(), item.getPrice(), item.getQuantity());
+        copy.setId(item.getId());
+        copy.setVersion(version);
+        return copy;
+    }
+
+}
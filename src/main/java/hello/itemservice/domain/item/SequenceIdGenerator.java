@@ -0,0 +1,32 @@
+package hello.itemservice.domain.item;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프로세스 안에서만 유일한 1, 2, 3 ... (기본값, 인스턴스가 하나일 때)
+ */
+public class SequenceIdGenerator implements IdGenerator {
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public long nextId() {
+        return sequence.incrementAndGet();
+    }
+
+    // 한 번의 CAS 로 연속된 블록
+    @Override
+    public long[] nextIds(int count) {
+        long first = sequence.getAndAdd(count) + 1;
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = first + i;
+        }
+        return ids;
+    }
+
+    @Override
+    public void observe(long id) {
+        sequence.accumulateAndGet(id, Math::max);
+    }
+}
@@ -0,0 +1,208 @@
+package hello.itemservice.domain.item;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 상품을 id 해시로 여러 MemoryItemRepository(샤드)에 나눠 담는 저장소
+ * - 쓰기는 해당 샤드의 맵, 인덱스, 락만 건드림 (id 발급기와 목록 버전만 공유)
+ * - 전체 스캔, 이름/범위 조회는 샤드별로 fork-join 풀에서 동시에 돌리고, 정렬된 결과를 병합 (id 순 또는 값 순)
+ * - 페이지 조회는 샤드마다 limit 개만 보면 되므로 나누지 않고 호출 스레드에서 병합
+ */
+public class ShardedItemRepository implements ItemRepository {
+
+    private static final Comparator<Item> BY_ID = Comparator.comparing(Item::getId);
+    private static final Comparator<Item> BY_PRICE = Comparator.comparing(Item::getPrice).thenComparing(Item::getId);
+    private static final Comparator<Item> BY_QUANTITY = Comparator.comparing(Item::getQuantity).thenComparing(Item::getId);
+
+    private final MemoryItemRepository[] shards;
+    private final ForkJoinPool pool;
+    private final IdGenerator idGenerator;
+    private final AtomicLong catalogVersion = new AtomicLong();
+
+    public ShardedItemRepository(int shardCount) {
+        this(shardCount, ForkJoinPool.commonPool(), new SequenceIdGenerator());
+    }
+
+    public ShardedItemRepository(int shardCount, ForkJoinPool pool) {
+        this(shardCount, pool, new SequenceIdGenerator());
+    }
+
+    public ShardedItemRepository(int shardCount, ForkJoinPool pool, IdGenerator idGenerator) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("shardCount 는 1 이상이어야 합니다 = " + shardCount);
+        }
+        this.shards = new MemoryItemRepository[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new MemoryItemRepository();
+        }
+        this.pool = pool;
+        this.idGenerator = idGenerator;
+    }
+
+    // 샤드에는 id, version 을 정해서 restore 로 넣는다 (샤드의 자체 id 발급은 쓰지 않음)
+    @Override
+    public Item save(Item item) {
+        item.setId(idGenerator.nextId());
+        item.setVersion(1L);
+        shardOf(item.getId()).restore(item);
+        catalogVersion.incrementAndGet();
+        return item;
+    }
+
+    @Override
+    public List<Item> saveAll(List<Item> items) {
+        long[] ids = idGenerator.nextIds(items.size());
+        List<List<Item>> byShard = new ArrayList<>(shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            byShard.add(new ArrayList<>());
+        }
+        int i = 0;
+        for (Item item : items) {
+            item.setId(ids[i++]);
+            item.setVersion(1L);
+            byShard.get(indexOf(item.getId())).add(item);
+        }
+        for (int shard = 0; shard < shards.length; shard++) {
+            shards[shard].restoreAll(byShard.get(shard));
+        }
+        catalogVersion.incrementAndGet();
+        return items;
+    }
+
+    @Override
+    public Item findById(Long id) {
+        return shardOf(id).findById(id);
+    }
+
+    @Override
+    public List<Item> findAll() {
+        return merge(scan(MemoryItemRepository::findAll), BY_ID, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Item> findPage(Long afterId, int limit) {
+        List<List<Item>> parts = new ArrayList<>(shards.length);
+        for (MemoryItemRepository shard : shards) {
+            parts.add(shard.findPage(afterId, limit));
+        }
+        return merge(parts, BY_ID, limit);
+    }
+
+    @Override
+    public List<Item> findByItemName(String itemName) {
+        return merge(scan(shard -> shard.findByItemName(itemName)), BY_ID, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Item> findByPriceBetween(int min, int max, int limit) {
+        return merge(scan(shard -> shard.findByPriceBetween(min, max, limit)), BY_PRICE, limit);
+    }
+
+    @Override
+    public List<Item> findByQuantityBetween(int min, int max, int limit) {
+        return merge(scan(shard -> shard.findByQuantityBetween(min, max, limit)), BY_QUANTITY, limit);
+    }
+
+    @Override
+    public void update(Long itemId, Item updateParam) {
+        MemoryItemRepository shard = shardOf(itemId);
+        long before = shard.catalogVersion();
+        shard.update(itemId, updateParam);
+        // 없는 상품이면 샤드 버전이 그대로 (같은 샤드의 다른 쓰기와 겹치면 한 번 더 올라갈 뿐)
+        if (shard.catalogVersion() != before) {
+            catalogVersion.incrementAndGet();
+        }
+    }
+
+    @Override
+    public long catalogVersion() {
+        return catalogVersion.get();
+    }
+
+    /**
+     * 샤드별 집계의 합 (샤드마다 따로 잠그므로 샤드 사이에는 같은 시점이 아닐 수 있음)
+     */
+    @Override
+    public ItemStats stats() {
+        ItemStats stats = shards[0].stats();
+        for (int i = 1; i < shards.length; i++) {
+            stats = stats.plus(shards[i].stats());
+        }
+        return stats;
+    }
+
+    @Override
+    public void restore(Item item) {
+        MemoryItemRepository shard = shardOf(item.getId());
+        long before = shard.catalogVersion();
+        shard.restore(item);
+        idGenerator.observe(item.getId());
+        if (shard.catalogVersion() != before) {
+            catalogVersion.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void clearStore() {
+        for (MemoryItemRepository shard : shards) {
+            shard.clearStore();
+        }
+        catalogVersion.incrementAndGet();
+    }
+
+    public int shardCount() {
+        return shards.length;
+    }
+
+    private MemoryItemRepository shardOf(Long id) {
+        return shards[indexOf(id)];
+    }
+
+    private int indexOf(Long id) {
+        return Math.floorMod(Long.hashCode(id), shards.length);
+    }
+
+    /**
+     * 샤드마다 query 를 풀에서 동시에 실행. 첫 번째 샤드는 기다리는 동안 호출 스레드가 직접 처리
+     */
+    private List<List<Item>> scan(Function<MemoryItemRepository, List<Item>> query) {
+        List<ForkJoinTask<List<Item>>> tasks = new ArrayList<>(shards.length - 1);
+        for (int i = 1; i < shards.length; i++) {
+            MemoryItemRepository shard = shards[i];
+            tasks.add(pool.submit(() -> query.apply(shard)));
+        }
+        List<List<Item>> parts = new ArrayList<>(shards.length);
+        parts.add(query.apply(shards[0]));
+        for (ForkJoinTask<List<Item>> task : tasks) {
+            parts.add(task.join());
+        }
+        return parts;
+    }
+
+    /**
+     * 각각 order 순으로 정렬된 샤드 결과를 합쳐서 최대 limit 개
+     * 이어 붙인 뒤 정렬하면 TimSort 가 샤드별로 이미 정렬된 구간을 찾아 병합만 한다 (n log 샤드 수)
+     */
+    private static List<Item> merge(List<List<Item>> parts, Comparator<Item> order, int limit) {
+        if (parts.size() == 1) {
+            List<Item> only = parts.get(0);
+            return only.size() <= limit ? only : new ArrayList<>(only.subList(0, limit));
+        }
+        int total = 0;
+        for (List<Item> part : parts) {
+            total += part.size();
+        }
+        List<Item> result = new ArrayList<>(total);
+        for (List<Item> part : parts) {
+            result.addAll(part);
+        }
+        result.sort(order);
+        return result.size() <= limit ? result : new ArrayList<>(result.subList(0, limit));
+    }
+}
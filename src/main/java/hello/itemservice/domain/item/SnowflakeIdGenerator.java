@@ -0,0 +1,63 @@
+package hello.itemservice.domain.item;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시각 + 노드 + 순번을 합친 64비트 id (Snowflake 방식). 노드 id 만 겹치지 않으면 인스턴스끼리 조율 없이 유일
+ * [0][41비트 EPOCH 이후 밀리초][10비트 노드][12비트 같은 밀리초 안의 순번]
+ *
+ * - 같은 밀리초에 4096 개를 넘으면 다음 밀리초 값을 미리 당겨 쓴다 (시계보다 앞서가다가 시계가 따라오면 맞춰짐)
+ * - 시계가 뒤로 가도(NTP 보정) 마지막으로 쓴 시각부터 이어서 발급하므로 같은 노드 안에서는 겹치지 않고 항상 증가
+ * - 주의: 값이 2^53 을 넘으므로 JSON 을 JavaScript 숫자로 읽으면 정밀도가 깨짐
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    public static final long EPOCH = Instant.parse("2021-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE = (1 << NODE_BITS) - 1;
+
+    private final long node;
+    private final LongSupplier clock;
+    // 마지막으로 발급한 (시각 << SEQUENCE_BITS | 순번), 노드 비트는 빼고 보관
+    private final AtomicLong last = new AtomicLong();
+
+    public SnowflakeIdGenerator(int node) {
+        this(node, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(int node, LongSupplier clock) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("node 는 0 ~ " + MAX_NODE + " 이어야 합니다 = " + node);
+        }
+        this.node = node;
+        this.clock = clock;
+    }
+
+    @Override
+    public long nextId() {
+        long now = (clock.getAsLong() - EPOCH) << SEQUENCE_BITS;
+        // 시계가 앞서 있으면 그 밀리초의 0번, 아니면 마지막 값 + 1 (순번이 넘치면 자연스럽게 다음 밀리초로)
+        long next = last.accumulateAndGet(now, (previous, current) -> Math.max(previous + 1, current));
+        long millis = next >>> SEQUENCE_BITS;
+        long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+        return (millis << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | sequence;
+    }
+
+    // 같은 노드가 발급한 id 를 복구하면 그 뒤부터 (시계가 되돌려진 채로 재시작한 경우 대비)
+    @Override
+    public void observe(long id) {
+        if (nodeOf(id) == node) {
+            long millis = id >>> (NODE_BITS + SEQUENCE_BITS);
+            long sequence = id & ((1L << SEQUENCE_BITS) - 1);
+            last.accumulateAndGet((millis << SEQUENCE_BITS) | sequence, Math::max);
+        }
+    }
+
+    public static long nodeOf(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE;
+    }
+}
@@ -0,0 +1,348 @@
+package hello.itemservice.message;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.support.AbstractMessageSource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.text.DateFormat;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * 메시지 파일을 시작할 때 전부 읽어서 locale 별 하나의 맵으로 합쳐 둔 MessageSource
+ *
+ * ResourceBundleMessageSource 와 같은 규칙으로 합친다
+ * - basename 순서가 우선 (messages 에 있으면 errors 는 보지 않음)
+ * - 같은 basename 안에서는 messages_en_US -> messages_en -> messages
+ * - 요청 locale 파일이 없으면 시스템 locale 파일로 대체 (fallbackToSystemLocale)
+ * - Locale.ROOT 처럼 언어가 없는 locale 은 기본 파일만 (시스템 locale 로 대체하지 않음)
+ * 그래서 조회는 코드 하나당 해시 조회 한 번이고, 동기화가 없다
+ *
+ * 맵은 시작할 때 메시지 파일이 있는 locale 것만 만든다 (요청 locale 은 Accept-Language 로 클라이언트 마음대로)
+ * 그 외 locale 은 가장 가까운 후보(en_GB -> en)나 시스템 locale 맵을 그대로 쓰고, 숫자 형식만 요청 locale 로
+ *
+ * 인자 없는 메시지는 원문 그대로, 인자가 있으면 미리 쪼개 둔 {n} 패턴에 끼워 넣는다
+ * 따옴표나 {0,number} 같은 형식이 있는 패턴만 MessageFormat 을 복제해서 사용
+ */
+@Slf4j
+public class CompiledMessageSource extends AbstractMessageSource {
+
+    private final String[] basenames;
+    private final Charset encoding;
+    private final boolean fallbackToSystemLocale;
+    private final ClassLoader classLoader = CompiledMessageSource.class.getClassLoader();
+
+    // 시작할 때 만든 뒤로는 바뀌지 않음
+    private final Map<Locale, Catalog> catalogs;
+    // 후보 locale 파일이 하나도 없을 때 (시스템 locale, fallbackToSystemLocale 이 아니면 기본 파일만)
+    private final Catalog fallback;
+    // 후보 locale 자체가 없을 때 (Locale.ROOT 등) 기본 파일만
+    private final Catalog base;
+
+    public CompiledMessageSource(String[] basenames, Charset encoding, boolean fallbackToSystemLocale) {
+        this.basenames = basenames;
+        this.encoding = encoding;
+        this.fallbackToSystemLocale = fallbackToSystemLocale;
+        Map<Locale, Catalog> compiled = new HashMap<>();
+        for (Locale locale : discoverLocales()) {
+            compiled.put(locale, compile(locale));
+        }
+        this.base = compiled.computeIfAbsent(Locale.ROOT, this::compile);
+        this.fallback = fallbackToSystemLocale ? compiled.computeIfAbsent(Locale.getDefault(), this::compile) : base;
+        this.catalogs = Map.copyOf(compiled);
+        log.info("message catalog compiled. basenames={} locales={}", String.join(",", basenames), catalogs.keySet());
+    }
+
+    @Override
+    protected String getMessageInternal(String code, Object[] args, Locale locale) {
+        if (code == null) {
+            return null;
+        }
+        if (locale == null) {
+            locale = Locale.getDefault();
+        }
+        Catalog catalog = catalog(locale);
+        CompiledMessage message = catalog.messages.get(code);
+        if (message == null) {
+            // 모르는 코드는 기본 처리 (commonMessages, parent)
+            return super.getMessageInternal(code, args, locale);
+        }
+        if (!isAlwaysUseMessageFormat() && ObjectUtils.isEmpty(args)) {
+            return message.raw;
+        }
+        return message.format(resolveArguments(args, locale), locale, catalog);
+    }
+
+    @Override
+    protected String resolveCodeWithoutArguments(String code, Locale locale) {
+        CompiledMessage message = catalog(locale).messages.get(code);
+        return message == null ? null : message.raw;
+    }
+
+    @Override
+    protected MessageFormat resolveCode(String code, Locale locale) {
+        CompiledMessage message = catalog(locale).messages.get(code);
+        return message == null ? null : createMessageFormat(message.raw, locale);
+    }
+
+    /**
+     * 시작할 때 모든 메시지 파일을 확인했으므로, 요청 locale 의 후보 중 맵이 있는 가장 구체적인 locale 과
+     * 합쳐지는 파일 목록이 같다 (en_GB 파일이 없으면 en_GB = en). 새 맵은 만들지 않는다
+     */
+    private Catalog catalog(Locale locale) {
+        Catalog catalog = catalogs.get(locale);
+        if (catalog != null) {
+            return catalog;
+        }
+        List<Locale> candidates = candidates(locale);
+        if (candidates.isEmpty()) {
+            return base;
+        }
+        for (Locale candidate : candidates) {
+            catalog = catalogs.get(candidate);
+            if (catalog != null) {
+                return catalog;
+            }
+        }
+        return fallback;
+    }
+
+    int catalogCount() {
+        return catalogs.size();
+    }
+
+    private Catalog compile(Locale locale) {
+        Map<String, CompiledMessage> messages = new HashMap<>();
+        for (String basename : basenames) {
+            for (Properties bundle : bundleChain(basename, locale)) {
+                for (String code : bundle.stringPropertyNames()) {
+                    messages.computeIfAbsent(code, c -> CompiledMessage.compile(bundle.getProperty(c), locale));
+                }
+            }
+        }
+        return new Catalog(locale, messages);
+    }
+
+    /**
+     * ResourceBundle.getBundle 과 같은 순서의 파일 목록 (앞에 있는 것이 우선)
+     */
+    private List<Properties> bundleChain(String basename, Locale locale) {
+        List<Locale> candidates = candidates(locale);
+        List<Properties> chain = loadAll(basename, candidates);
+        Locale systemLocale = Locale.getDefault();
+        // 요청 locale 이 기본 파일 자체(ROOT)면 ResourceBundle 도 시스템 locale 로 대체하지 않음
+        if (chain.isEmpty() && !candidates.isEmpty() && fallbackToSystemLocale && !locale.equals(systemLocale)) {
+            chain = loadAll(basename, candidates(systemLocale));
+        }
+        Properties base = load(basename, Locale.ROOT);
+        if (base != null) {
+            chain.add(base);
+        }
+        return chain;
+    }
+
+    private static List<Locale> candidates(Locale locale) {
+        List<Locale> candidates = new ArrayList<>(3);
+        if (!locale.getVariant().isEmpty()) {
+            candidates.add(locale);
+        }
+        if (!locale.getCountry().isEmpty()) {
+            candidates.add(new Locale(locale.getLanguage(), locale.getCountry()));
+        }
+        if (!locale.getLanguage().isEmpty()) {
+            candidates.add(new Locale(locale.getLanguage()));
+        }
+        return candidates;
+    }
+
+    private List<Properties> loadAll(String basename, List<Locale> locales) {
+        List<Properties> bundles = new ArrayList<>(locales.size() + 1);
+        for (Locale locale : locales) {
+            Properties bundle = load(basename, locale);
+            if (bundle != null) {
+                bundles.add(bundle);
+            }
+        }
+        return bundles;
+    }
+
+    private Properties load(String basename, Locale locale) {
+        String suffix = locale.toString().isEmpty() ? "" : "_" + locale;
+        String path = basename.replace('.', '/') + suffix + ".properties";
+        try (InputStream stream = classLoader.getResourceAsStream(path)) {
+            if (stream == null) {
+                return null;
+            }
+            Properties properties = new Properties();
+            try (Reader reader = new InputStreamReader(stream, encoding)) {
+                properties.load(reader);
+            }
+            return properties;
+        } catch (IOException e) {
+            throw new UncheckedIOException("메시지 파일을 읽을 수 없습니다. path=" + path, e);
+        }
+    }
+
+    // classpath 의 basename_xx.properties 로 어떤 locale 이 있는지 확인
+    private Set<Locale> discoverLocales() {
+        Set<Locale> locales = new LinkedHashSet<>();
+        locales.add(Locale.getDefault());
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(classLoader);
+        for (String basename : basenames) {
+            String path = basename.replace('.', '/');
+            String prefix = StringUtils.getFilename(path) + "_";
+            try {
+                for (Resource resource : resolver.getResources("classpath*:" + path + "_*.properties")) {
+                    String filename = resource.getFilename();
+                    if (filename != null && filename.startsWith(prefix)) {
+                        String localeName = filename.substring(prefix.length(), filename.length() - ".properties".length());
+                        Locale locale = StringUtils.parseLocale(localeName);
+                        if (locale != null) {
+                            locales.add(locale);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return locales;
+    }
+
+    /**
+     * locale 하나의 모든 메시지. 만든 뒤에는 바뀌지 않는다
+     */
+    private static final class Catalog {
+        private final Locale locale;
+        private final Map<String, CompiledMessage> messages;
+        // NumberFormat 은 스레드 안전하지 않아서 스레드별로 하나씩
+        private final ThreadLocal<NumberFormat> numberFormat;
+
+        private Catalog(Locale locale, Map<String, CompiledMessage> messages) {
+            this.locale = locale;
+            this.messages = Map.copyOf(messages);
+            this.numberFormat = ThreadLocal.withInitial(() -> NumberFormat.getInstance(locale));
+        }
+    }
+
+    private static final class CompiledMessage {
+        private final String raw;
+        // 단순 패턴: literals[0] {indexes[0]} literals[1] ... literals[n]
+        private final String[] literals;
+        private final int[] indexes;
+        // 단순 패턴이 아니면 MessageFormat (형식이 잘못된 패턴이면 둘 다 null)
+        private final MessageFormat prototype;
+
+        private CompiledMessage(String raw, String[] literals, int[] indexes, MessageFormat prototype) {
+            this.raw = raw;
+            this.literals = literals;
+            this.indexes = indexes;
+            this.prototype = prototype;
+        }
+
+        static CompiledMessage compile(String raw, Locale locale) {
+            List<String> literals = new ArrayList<>();
+            List<Integer> indexes = new ArrayList<>();
+            if (parseSimple(raw, literals, indexes)) {
+                return new CompiledMessage(raw, literals.toArray(new String[0]),
+                        indexes.stream().mapToInt(Integer::intValue).toArray(), null);
+            }
+            try {
+                return new CompiledMessage(raw, null, null, new MessageFormat(raw, locale));
+            } catch (IllegalArgumentException e) {
+                // 인자 없이 쓰이는 메시지일 수 있으므로 시작은 막지 않음
+                return new CompiledMessage(raw, null, null, null);
+            }
+        }
+
+        // 따옴표 없이 {숫자} 만 있는 패턴인지
+        private static boolean parseSimple(String pattern, List<String> literals, List<Integer> indexes) {
+            int start = 0;
+            int i = 0;
+            while (i < pattern.length()) {
+                char c = pattern.charAt(i);
+                if (c == '\'' || c == '}') {
+                    return false;
+                }
+                if (c != '{') {
+                    i++;
+                    continue;
+                }
+                int close = pattern.indexOf('}', i + 1);
+                if (close <= i + 1 || close - i - 1 > 9) {
+                    return false;
+                }
+                int index = 0;
+                for (int j = i + 1; j < close; j++) {
+                    char d = pattern.charAt(j);
+                    if (d < '0' || d > '9') {
+                        return false;
+                    }
+                    index = index * 10 + (d - '0');
+                }
+                literals.add(pattern.substring(start, i));
+                indexes.add(index);
+                i = close + 1;
+                start = i;
+            }
+            literals.add(pattern.substring(start));
+            return true;
+        }
+
+        /**
+         * locale 이 맵의 locale 과 다르면(다른 locale 맵을 빌려 쓰는 경우) 형식 객체를 그때그때 만든다
+         */
+        String format(Object[] args, Locale locale, Catalog catalog) {
+            boolean own = locale.equals(catalog.locale);
+            if (literals == null) {
+                MessageFormat format = prototype != null && own
+                        ? (MessageFormat) prototype.clone()
+                        : new MessageFormat(raw, locale); // 잘못된 패턴은 ResourceBundleMessageSource 처럼 여기서 예외
+                return format.format(args);
+            }
+            NumberFormat numberFormat = own ? catalog.numberFormat.get() : NumberFormat.getInstance(locale);
+            StringBuilder sb = new StringBuilder(raw.length() + 16);
+            for (int i = 0; i < indexes.length; i++) {
+                sb.append(literals[i]);
+                appendArgument(sb, indexes[i], args, locale, numberFormat);
+            }
+            return sb.append(literals[indexes.length]).toString();
+        }
+
+        // MessageFormat 이 형식 없는 {n} 을 출력하는 방식과 동일
+        private static void appendArgument(StringBuilder sb, int index, Object[] args, Locale locale, NumberFormat numberFormat) {
+            if (args == null || index >= args.length) {
+                sb.append('{').append(index).append('}');
+                return;
+            }
+            Object arg = args[index];
+            if (arg == null) {
+                sb.append("null");
+            } else if (arg instanceof Number) {
+                sb.append(numberFormat.format(arg));
+            } else if (arg instanceof Date) {
+                sb.append(DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale).format(arg));
+            } else {
+                sb.append(arg);
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package hello.itemservice.web;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import lombok.Data;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일괄 등록 결과. results 는 요청 배열과 같은 순서 (성공이면 id, 실패면 errors)
+ */
+@Data
+public class ItemBatchResult {
+
+    private int saved;
+    private int failed;
+    private List<Row> results = new ArrayList<>();
+
+    @Data
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Row {
+        private final int index;
+        private Long id;
+        private List<Error> errors;
+    }
+
+    @Data
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Error {
+        private final String field;
+        private final String code;
+    }
+
+    public static List<Error> errorsOf(BindingResult bindingResult) {
+        List<Error> errors = new ArrayList<>(bindingResult.getErrorCount());
+        for (ObjectError error : bindingResult.getAllErrors()) {
+            String field = error instanceof FieldError ? ((FieldError) error).getField() : null;
+            errors.add(new Error(field, error.getCode()));
+        }
+        return errors;
+    }
+
+    /**
+     * JSON -> 폼 변환 실패 (price 에 문자가 들어온 경우 등), 필드를 알 수 있으면 필드 오류로
+     */
+    public static List<Error> typeMismatch(JsonMappingException e) {
+        List<JsonMappingException.Reference> path = e.getPath();
+        String field = path.isEmpty() ? null : path.get(path.size() - 1).getFieldName();
+        return List.of(new Error(field, "typeMismatch"));
+    }
+}
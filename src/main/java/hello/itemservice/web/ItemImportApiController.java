@@ -0,0 +1,224 @@
+package hello.itemservice.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.web.validation.ItemSaveFormValidator;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * NDJSON(한 줄에 JSON 하나) 대량 등록
+ * 한 줄씩 읽어서 바로 검증하고, 통과한 상품은 CHUNK_SIZE 개씩 모아서 저장
+ * 거절된 줄은 발견 즉시 응답으로 흘려보내고, 마지막 줄에 처리 건수와 속도를 돌려준다
+ * 한 줄은 MAX_LINE_LENGTH 자까지만 메모리에 올리고, 넘는 줄은 나머지를 버리고 lineTooLong 으로 거절
+ *
+ * 본문 전체를 읽는 동안 비동기 요청으로 처리되므로 스프링 기본 비동기 timeout(톰캣 30초)이 아니라
+ * 이 요청만의 timeout (item.import.timeout-millis) 을 쓴다. 넘으면 그때까지 저장한 chunk 는 남고 요약은 없음
+ */
+@Slf4j
+@RestController
+@RequestMapping("/validation/api/items")
+public class ItemImportApiController {
+
+    static final String NDJSON = "application/x-ndjson";
+    static final int MAX_LINE_LENGTH = 64 * 1024;
+    private static final int CHUNK_SIZE = 500;
+
+    private final ItemRepository itemRepository;
+    private final ItemSaveFormValidator itemSaveFormValidator;
+    private final MessageCodesResolver messageCodesResolver;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader formReader;
+    private final TaskExecutor importExecutor;
+    private final long timeoutMillis;
+
+    public ItemImportApiController(ItemRepository itemRepository, ItemSaveFormValidator itemSaveFormValidator,
+                                   MessageCodesResolver messageCodesResolver, ObjectMapper objectMapper,
+                                   @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) TaskExecutor importExecutor,
+                                   @Value("${item.import.timeout-millis:1800000}") long timeoutMillis) {
+        this.itemRepository = itemRepository;
+        this.itemSaveFormValidator = itemSaveFormValidator;
+        this.messageCodesResolver = messageCodesResolver;
+        this.objectMapper = objectMapper;
+        this.formReader = objectMapper.readerFor(ItemSaveForm.class);
+        this.importExecutor = importExecutor;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @PostMapping(value = "/import", consumes = NDJSON, produces = NDJSON)
+    public ResponseEntity<ResponseBodyEmitter> importItems(InputStream body) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeoutMillis);
+        importExecutor.execute(() -> {
+            try {
+                importLines(body, emitter);
+                emitter.complete();
+            } catch (Exception e) {
+                // timeout 으로 이미 끝난 요청이면 send 가 IllegalStateException
+                log.warn("item import 중단", e);
+                emitter.completeWithError(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(emitter);
+    }
+
+    private void importLines(InputStream body, ResponseBodyEmitter emitter) throws IOException {
+        long start = System.nanoTime();
+        int lineNumber = 0;
+        int accepted = 0;
+        int rejected = 0;
+        List<Item> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        BoundedLineReader reader = new BoundedLineReader(
+                new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)), MAX_LINE_LENGTH);
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (!reader.isTooLong() && line.isBlank()) {
+                continue;
+            }
+
+            List<ItemBatchResult.Error> errors = reader.isTooLong()
+                    ? List.of(new ItemBatchResult.Error(null, "lineTooLong"))
+                    : readAndValidate(line, chunk);
+            if (errors == null) {
+                accepted++;
+                if (chunk.size() == CHUNK_SIZE) {
+                    itemRepository.saveAll(chunk);
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+                continue;
+            }
+
+            rejected++;
+            Map<String, Object> rejection = new LinkedHashMap<>();
+            rejection.put("line", lineNumber);
+            rejection.put("errors", errors);
+            writeLine(emitter, rejection);
+        }
+        if (!chunk.isEmpty()) {
+            itemRepository.saveAll(chunk);
+        }
+
+        long elapsedNanos = Math.max(System.nanoTime() - start, 1);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("accepted", accepted);
+        summary.put("rejected", rejected);
+        summary.put("elapsedMillis", elapsedNanos / 1_000_000);
+        summary.put("itemsPerSecond", (accepted + rejected) * 1_000_000_000L / elapsedNanos);
+        writeLine(emitter, Map.of("summary", summary));
+        log.info("item import accepted={} rejected={} {}ms", accepted, rejected, elapsedNanos / 1_000_000);
+    }
+
+    /**
+     * 통과하면 chunk 에 추가하고 null, 실패하면 오류 목록
+     */
+    private List<ItemBatchResult.Error> readAndValidate(String line, List<Item> chunk) {
+        ItemSaveForm form;
+        try {
+            form = formReader.readValue(line);
+        } catch (MismatchedInputException e) {
+            return ItemBatchResult.typeMismatch(e);
+        } catch (JsonProcessingException e) {
+            return List.of(new ItemBatchResult.Error(null, "invalidJson"));
+        }
+        if (form == null) {
+            return List.of(new ItemBatchResult.Error(null, "required"));
+        }
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(form, "itemSaveForm");
+        bindingResult.setMessageCodesResolver(messageCodesResolver);
+        itemSaveFormValidator.validate(form, bindingResult);
+        if (bindingResult.hasErrors()) {
+            return ItemBatchResult.errorsOf(bindingResult);
+        }
+        chunk.add(new Item(form.getItemName(), form.getPrice(), form.getQuantity()));
+        return null;
+    }
+
+    // JSON 한 줄 + 줄바꿈을 byte[] 로 보내서 ByteArrayHttpMessageConverter 가 그대로 쓰고 flush
+    private void writeLine(ResponseBodyEmitter emitter, Object value) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(value);
+        byte[] line = Arrays.copyOf(json, json.length + 1);
+        line[json.length] = '\n';
+        emitter.send(line);
+    }
+
+    /**
+     * BufferedReader.readLine 은 줄 길이 제한이 없어서 줄바꿈 없는 본문이면 전체를 메모리에 올림
+     * -> maxLength 자까지만 모으고 넘으면 줄 끝까지 읽어서 버림 (isTooLong)
+     */
+    static final class BoundedLineReader {
+
+        private final Reader in;
+        private final int maxLength;
+        private final StringBuilder line = new StringBuilder();
+        private boolean tooLong;
+
+        BoundedLineReader(Reader in, int maxLength) {
+            this.in = in;
+            this.maxLength = maxLength;
+        }
+
+        /**
+         * 다음 줄 (\n, \r\n 제외), 끝이면 null. 너무 긴 줄이면 빈 문자열 + isTooLong
+         */
+        String readLine() throws IOException {
+            line.setLength(0);
+            tooLong = false;
+            int c = in.read();
+            if (c < 0) {
+                return null;
+            }
+            while (c >= 0 && c != '\n') {
+                if (line.length() < maxLength) {
+                    line.append((char) c);
+                } else {
+                    tooLong = true;
+                }
+                c = in.read();
+            }
+            if (tooLong) {
+                line.setLength(0);
+                return "";
+            }
+            int length = line.length();
+            if (length > 0 && line.charAt(length - 1) == '\r') {
+                line.setLength(length - 1);
+            }
+            return line.toString();
+        }
+
+        boolean isTooLong() {
+            return tooLong;
+        }
+    }
+}
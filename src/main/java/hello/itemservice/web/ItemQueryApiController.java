@@ -0,0 +1,49 @@
+package hello.itemservice.web;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/validation/api/items")
+@RequiredArgsConstructor
+public class ItemQueryApiController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final ItemRepository itemRepository;
+
+    @GetMapping("/search")
+    public List<Item> findByItemName(@RequestParam String itemName) {
+        return itemRepository.findByItemName(itemName);
+    }
+
+    @GetMapping("/search/price")
+    public List<Item> findByPrice(@RequestParam(defaultValue = "-2147483648") int min,
+                                  @RequestParam(defaultValue = "2147483647") int max,
+                                  @RequestParam(defaultValue = "100") int limit) {
+        return itemRepository.findByPriceBetween(min, max, Math.min(Math.max(limit, 0), MAX_LIMIT));
+    }
+
+    @GetMapping("/search/quantity")
+    public List<Item> findByQuantity(@RequestParam(defaultValue = "-2147483648") int min,
+                                     @RequestParam(defaultValue = "2147483647") int max,
+                                     @RequestParam(defaultValue = "100") int limit) {
+        return itemRepository.findByQuantityBetween(min, max, Math.min(Math.max(limit, 0), MAX_LIMIT));
+    }
+
+    /**
+     * 상품 수, 재고 금액, 가격 최소/최대/평균 - 저장소가 유지하는 집계를 그대로 (전체 스캔 없음)
+     */
+    @GetMapping("/stats")
+    public ItemStats stats() {
+        return itemRepository.stats();
+    }
+}
@@ -0,0 +1,102 @@
+package hello.itemservice.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import org.springframework.context.MessageSource;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검증 실패 응답. [{"field","code","rejectedValue","message"}, ...]
+ * 리플렉션 없이 JsonGenerator 에 직접 쓰고, 메시지는 직렬화할 때 요청 locale 로 한 번만 찾는다
+ * 전역 오류(ObjectError)는 field, rejectedValue 없이 code, message 만
+ */
+public class ValidationErrorResponse extends JsonSerializable.Base {
+
+    private final List<ObjectError> errors;
+    private final MessageSource messageSource;
+    private final Locale locale;
+
+    public ValidationErrorResponse(BindingResult bindingResult, MessageSource messageSource, Locale locale) {
+        this.errors = bindingResult.getAllErrors();
+        this.messageSource = messageSource;
+        this.locale = locale;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartArray(errors, errors.size());
+        for (ObjectError error : errors) {
+            gen.writeStartObject();
+            if (error instanceof FieldError) {
+                FieldError fieldError = (FieldError) error;
+                gen.writeStringField("field", fieldError.getField());
+                gen.writeStringField("code", error.getCode());
+                gen.writeFieldName("rejectedValue");
+                writeValue(gen, fieldError.getRejectedValue());
+            } else {
+                gen.writeStringField("code", error.getCode());
+            }
+            String message = message(error);
+            if (message != null) {
+                gen.writeStringField("message", message);
+            }
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+
+    private String message(ObjectError error) {
+        try {
+            return messageSource.getMessage(error, locale);
+        } catch (NoSuchMessageException e) {
+            return null;
+        }
+    }
+
+    // 폼에 들어오는 값은 문자, 숫자, null 정도라서 나머지는 문자열로
+    private static void writeValue(JsonGenerator gen, Object value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else if (value instanceof Integer) {
+            gen.writeNumber((Integer) value);
+        } else if (value instanceof Long) {
+            gen.writeNumber((Long) value);
+        } else if (value instanceof Boolean) {
+            gen.writeBoolean((Boolean) value);
+        } else {
+            gen.writeString(value.toString());
+        }
+    }
+
+    /**
+     * 로그용 한 줄 요약 (price:typeMismatch, quantity:max)
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (ObjectError error : errors) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            if (error instanceof FieldError) {
+                sb.append(((FieldError) error).getField()).append(':');
+            }
+            sb.append(error.getCode());
+        }
+        return sb.toString();
+    }
+}
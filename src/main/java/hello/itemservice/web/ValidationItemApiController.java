@@ -1,31 +1,126 @@
 package hello.itemservice.web;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.web.validation.ItemSaveFormValidator;
+import hello.itemservice.web.validation.LenientJson;
+import hello.itemservice.web.validation.form.FailFast;
 import hello.itemservice.web.validation.form.ItemSaveForm;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.BindingResult;
+import org.springframework.validation.MessageCodesResolver;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 
 @Slf4j
 @RestController
 @RequestMapping("/validation/api/items")
+@RequiredArgsConstructor
 public class ValidationItemApiController {
 
+    private static final int MAX_BATCH_SIZE = 10_000;
+
+    private final ItemRepository itemRepository;
+    private final ItemSaveFormValidator itemSaveFormValidator;
+    private final MessageCodesResolver messageCodesResolver;
+    private final MessageSource messageSource;
+    private final ObjectMapper objectMapper;
+
+    // API 는 첫 오류에서 멈춤 (@Validated(FailFast.class)), HTML 폼(V4)은 전체 오류를 보여줘야 해서 그대로
+    @InitBinder("itemSaveForm")
+    public void init(WebDataBinder dataBinder) {
+        dataBinder.setValidator(itemSaveFormValidator);
+    }
+
     @PostMapping("/add")
-    public Object addItem(@RequestBody @Validated ItemSaveForm form, BindingResult bindingResult) {
+    public Object addItem(@LenientJson @Validated(FailFast.class) ItemSaveForm form, BindingResult bindingResult, Locale locale) {
         // price에 문자를 넣게 되면 메세지컨버터가 json 데이터를 ItemSaveForm 객체로 바꾸는 거 자체를 실패해서 컨트롤러 호출 안됨. 예외처리 해줘야함
+        // -> @RequestBody 대신 @LenientJson: 타입이 안 맞으면 예외 없이 typeMismatch 오류로 들어옴
 
         log.info("API 컨트롤러 호출");
 
         if (bindingResult.hasErrors()) {
-            log.info("error : {}", bindingResult);
-            return bindingResult.hasErrors();
+            // BindingResult 전체를 찍지 않고 field:code 만
+            ValidationErrorResponse errors = new ValidationErrorResponse(bindingResult, messageSource, locale);
+            log.debug("error : {}", errors);
+            return ResponseEntity.badRequest().body(errors);
         }
 
         log.info("success");
         return form;
     }
+
+    /**
+     * 배열로 여러 건 등록. 건별로 ItemSaveForm 과 같은 규칙 + totalPriceMin 을 검증하고
+     * 통과한 것만 saveAll 로 한 번에 저장
+     * 배열은 JsonNode 로만 받고 ItemSaveForm 변환은 건별로 -> 한 건의 타입 오류가 전체를 400 으로 만들지 않음
+     */
+    @PostMapping("/batch")
+    public ItemBatchResult addItems(@RequestBody List<JsonNode> forms) {
+        if (forms.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(BAD_REQUEST, "한 번에 최대 " + MAX_BATCH_SIZE + "건까지 등록할 수 있습니다.");
+        }
+
+        ItemBatchResult result = new ItemBatchResult();
+        List<Item> items = new ArrayList<>(forms.size());
+        List<ItemBatchResult.Row> savedRows = new ArrayList<>(forms.size());
+
+        for (int i = 0; i < forms.size(); i++) {
+            ItemBatchResult.Row row = new ItemBatchResult.Row(i);
+            result.getResults().add(row);
+
+            ItemSaveForm form;
+            try {
+                form = objectMapper.treeToValue(forms.get(i), ItemSaveForm.class);
+            } catch (MismatchedInputException e) {
+                row.setErrors(ItemBatchResult.typeMismatch(e));
+                continue;
+            } catch (JsonProcessingException e) {
+                row.setErrors(List.of(new ItemBatchResult.Error(null, "invalidJson")));
+                continue;
+            }
+
+            BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(form, "itemSaveForm");
+            bindingResult.setMessageCodesResolver(messageCodesResolver);
+            if (form == null) {
+                bindingResult.reject("required");
+            } else {
+                itemSaveFormValidator.validate(form, bindingResult);
+            }
+            if (bindingResult.hasErrors()) {
+                row.setErrors(ItemBatchResult.errorsOf(bindingResult));
+                continue;
+            }
+            items.add(new Item(form.getItemName(), form.getPrice(), form.getQuantity()));
+            savedRows.add(row);
+        }
+
+        itemRepository.saveAll(items);
+        for (int i = 0; i < items.size(); i++) {
+            savedRows.get(i).setId(items.get(i).getId());
+        }
+        result.setSaved(items.size());
+        result.setFailed(forms.size() - items.size());
+        return result;
+    }
 }
@@ -0,0 +1,111 @@
+package hello.itemservice.web.validation;
+
+import org.springframework.validation.DefaultMessageCodesResolver;
+import org.springframework.validation.MessageCodesResolver;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * (errorCode, objectName, field, fieldType) 가 같으면 메시지 코드 배열도 항상 같으므로 한 번 만든 배열을 재사용
+ * ex) required + item + itemName + String -> required.item.itemName, required.itemName, required.java.lang.String, required
+ *
+ * 캐시 크기가 maxSize 에 도달하면 더 이상 넣지 않고 위임 결과를 그대로 돌려준다
+ * 돌려주는 배열은 여러 오류 객체가 같이 참조하므로 수정하면 안 된다
+ */
+public class CachingMessageCodesResolver implements MessageCodesResolver {
+
+    private final MessageCodesResolver delegate;
+    private final int maxSize;
+    private final ConcurrentHashMap<Key, String[]> cache = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CachingMessageCodesResolver(int maxSize) {
+        this(new DefaultMessageCodesResolver(), maxSize);
+    }
+
+    public CachingMessageCodesResolver(MessageCodesResolver delegate, int maxSize) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public String[] resolveMessageCodes(String errorCode, String objectName) {
+        return resolve(new Key(errorCode, objectName, null, null));
+    }
+
+    @Override
+    public String[] resolveMessageCodes(String errorCode, String objectName, String field, Class<?> fieldType) {
+        return resolve(new Key(errorCode, objectName, field, fieldType));
+    }
+
+    private String[] resolve(Key key) {
+        String[] codes = cache.get(key);
+        if (codes != null) {
+            hits.increment();
+            return codes;
+        }
+        misses.increment();
+        codes = key.field == null
+                ? delegate.resolveMessageCodes(key.errorCode, key.objectName)
+                : delegate.resolveMessageCodes(key.errorCode, key.objectName, key.field, key.fieldType);
+        if (cache.size() < maxSize) {
+            String[] previous = cache.putIfAbsent(key, codes);
+            if (previous != null) {
+                return previous;
+            }
+        }
+        return codes;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private static final class Key {
+        private final String errorCode;
+        private final String objectName;
+        private final String field;
+        private final Class<?> fieldType;
+        private final int hash;
+
+        private Key(String errorCode, String objectName, String field, Class<?> fieldType) {
+            this.errorCode = errorCode;
+            this.objectName = objectName;
+            this.field = field;
+            this.fieldType = fieldType;
+            this.hash = Objects.hash(errorCode, objectName, field, fieldType);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return Objects.equals(errorCode, other.errorCode)
+                    && Objects.equals(objectName, other.objectName)
+                    && Objects.equals(field, other.field)
+                    && fieldType == other.fieldType;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
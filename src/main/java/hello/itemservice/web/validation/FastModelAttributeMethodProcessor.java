@@ -0,0 +1,119 @@
+package hello.itemservice.web.validation;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.annotation.ModelAttributeMethodProcessor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ServletModelAttributeMethodProcessor;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FormBinder 가 등록된 클래스의 @ModelAttribute 는 BeanWrapper 대신 FormBinder 로 바인딩
+ * 바인더 생성(@InitBinder), 검증(@Validated), BindException, 모델 등록은 기존 처리기 그대로
+ *
+ * 기존 바인더와 결과가 달라질 수 있는 요청은 그대로 WebDataBinder 에 맡긴다
+ * - @InitBinder 에서 allowed/disallowed/required fields 를 설정한 경우
+ * - multipart, 체크박스 마커(_field, !field), 같은 이름의 파라미터가 여러 개인 경우
+ * 주의: @InitBinder 에서 등록한 PropertyEditor/Formatter 는 FormBinder 에 적용되지 않음
+ */
+public class FastModelAttributeMethodProcessor extends ModelAttributeMethodProcessor {
+
+    private final Map<Class<?>, FormBinder<?>> binders = new HashMap<>();
+    private final ServletProcessor servletProcessor = new ServletProcessor();
+
+    public FastModelAttributeMethodProcessor(List<FormBinder<?>> binders) {
+        super(false); // @ModelAttribute 가 붙은 파라미터만
+        for (FormBinder<?> binder : binders) {
+            this.binders.put(binder.getType(), binder);
+        }
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return super.supportsParameter(parameter) && binders.containsKey(parameter.getParameterType());
+    }
+
+    @Override
+    protected Object createAttribute(String attributeName, MethodParameter parameter,
+                                     WebDataBinderFactory binderFactory, NativeWebRequest request) throws Exception {
+        // 경로 변수나 파라미터로 객체 자체가 넘어오는 경우는 기존 방식 (변환기 사용)
+        if (servletProcessor.hasRequestValue(attributeName, request)) {
+            return servletProcessor.create(attributeName, parameter, binderFactory, request);
+        }
+        return binders.get(parameter.getParameterType()).newInstance();
+    }
+
+    @Override
+    protected void bindRequestParameters(WebDataBinder binder, NativeWebRequest request) {
+        HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+        Object target = binder.getTarget();
+        @SuppressWarnings("unchecked")
+        FormBinder<Object> formBinder = target == null ? null : (FormBinder<Object>) binders.get(target.getClass());
+        if (servletRequest == null || formBinder == null || !canBind(binder, servletRequest)) {
+            servletProcessor.bind(binder, request);
+            return;
+        }
+
+        formBinder.bind(target, servletRequest.getParameterMap(), uriVariables(request), binder.getBindingResult());
+    }
+
+    private static boolean canBind(WebDataBinder binder, HttpServletRequest request) {
+        if (binder.getAllowedFields() != null && binder.getAllowedFields().length > 0
+                || binder.getDisallowedFields() != null && binder.getDisallowedFields().length > 0
+                || binder.getRequiredFields() != null && binder.getRequiredFields().length > 0
+                || !binder.isIgnoreUnknownFields() || binder.isIgnoreInvalidFields()) {
+            return false;
+        }
+        String contentType = request.getContentType();
+        if (contentType != null && contentType.toLowerCase().startsWith("multipart/")) {
+            return false;
+        }
+        String markerPrefix = binder.getFieldMarkerPrefix();
+        String defaultPrefix = binder.getFieldDefaultPrefix();
+        for (Map.Entry<String, String[]> parameter : request.getParameterMap().entrySet()) {
+            String name = parameter.getKey();
+            if (markerPrefix != null && name.startsWith(markerPrefix)
+                    || defaultPrefix != null && name.startsWith(defaultPrefix)
+                    || parameter.getValue().length != 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> uriVariables(NativeWebRequest request) {
+        return (Map<String, String>) request.getAttribute(
+                HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /**
+     * ServletModelAttributeMethodProcessor 의 createAttribute 가 final 이라 상속 대신 기존 동작 호출용으로만 사용
+     */
+    private static final class ServletProcessor extends ServletModelAttributeMethodProcessor {
+
+        private ServletProcessor() {
+            super(false);
+        }
+
+        boolean hasRequestValue(String attributeName, NativeWebRequest request) {
+            return getRequestValueForAttribute(attributeName, request) != null;
+        }
+
+        Object create(String attributeName, MethodParameter parameter,
+                      WebDataBinderFactory binderFactory, NativeWebRequest request) throws Exception {
+            return createAttribute(attributeName, parameter, binderFactory, request);
+        }
+
+        void bind(WebDataBinder binder, NativeWebRequest request) {
+            bindRequestParameters(binder, request);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package hello.itemservice.web.validation;
+
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.util.NumberUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 리플렉션(BeanWrapper) 없이 요청 파라미터를 폼 객체에 넣는 바인더
+ * 프로퍼티마다 setter 를 메서드 참조로 미리 등록해 둔다 (FastBindingConfig)
+ *
+ * WebDataBinder + 기본 ConversionService 와 같은 규칙
+ * - 문자열은 그대로, 숫자는 공백뿐이면 null (CustomNumberEditor), 아니면 NumberUtils.parseNumber (공백 제거, 16진수 허용)
+ * - 변환에 실패하면 DefaultBindingErrorProcessor 와 같은 typeMismatch 필드 오류 (코드, 인자, 거절된 값)
+ * - 모르는 파라미터는 무시, 경로 변수는 같은 이름의 파라미터가 없을 때만 (ExtendedServletRequestDataBinder)
+ */
+public final class FormBinder<T> {
+
+    private final Class<T> type;
+    private final Supplier<T> constructor;
+    // WebDataBinder 는 파라미터를 이름순(TreeMap)으로 바인딩하므로 오류 순서를 맞추려고 같은 순서로
+    private final Map<String, Property<T>> properties = new TreeMap<>();
+
+    private FormBinder(Class<T> type, Supplier<T> constructor) {
+        this.type = type;
+        this.constructor = constructor;
+    }
+
+    public static <T> FormBinder<T> of(Class<T> type, Supplier<T> constructor) {
+        return new FormBinder<>(type, constructor);
+    }
+
+    public FormBinder<T> stringProperty(String name, BiConsumer<T, String> setter) {
+        return property(name, String.class, value -> value, setter);
+    }
+
+    public FormBinder<T> integerProperty(String name, BiConsumer<T, Integer> setter) {
+        return property(name, Integer.class, value -> StringUtils.hasText(value) ? NumberUtils.parseNumber(value, Integer.class) : null, setter);
+    }
+
+    public FormBinder<T> longProperty(String name, BiConsumer<T, Long> setter) {
+        return property(name, Long.class, value -> StringUtils.hasText(value) ? NumberUtils.parseNumber(value, Long.class) : null, setter);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> FormBinder<T> property(String name, Class<V> valueType, Function<String, V> converter, BiConsumer<T, V> setter) {
+        properties.put(name, new Property<>(valueType, converter, (BiConsumer<T, Object>) setter));
+        return this;
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public T newInstance() {
+        return constructor.get();
+    }
+
+    /**
+     * 파라미터는 이름마다 값이 하나인 경우만 (여러 개면 WebDataBinder 에 맡길 것)
+     */
+    public void bind(T target, Map<String, String[]> parameters, Map<String, String> uriVariables, BindingResult bindingResult) {
+        for (Map.Entry<String, Property<T>> entry : properties.entrySet()) {
+            String[] values = parameters.get(entry.getKey());
+            if (values != null) {
+                bind(target, entry.getKey(), values[0], entry.getValue(), bindingResult);
+            }
+        }
+        if (uriVariables == null) {
+            return;
+        }
+        for (Map.Entry<String, String> variable : uriVariables.entrySet()) {
+            Property<T> property = properties.get(variable.getKey());
+            if (property != null && !parameters.containsKey(variable.getKey())) {
+                bind(target, variable.getKey(), variable.getValue(), property, bindingResult);
+            }
+        }
+    }
+
+    private void bind(T target, String name, String value, Property<T> property, BindingResult bindingResult) {
+        Object converted;
+        try {
+            converted = property.converter.apply(value);
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            rejectTypeMismatch(bindingResult, name, value, property.valueType);
+            return;
+        }
+        property.setter.accept(target, converted);
+    }
+
+    // DefaultBindingErrorProcessor.processPropertyAccessException 과 같은 오류 (TypeMismatchException 은 만들지 않음)
+    private static void rejectTypeMismatch(BindingResult bindingResult, String field, Object rejectedValue, Class<?> requiredType) {
+        String objectName = bindingResult.getObjectName();
+        String[] codes = bindingResult.resolveMessageCodes("typeMismatch", field);
+        Object[] arguments = {new DefaultMessageSourceResolvable(new String[]{objectName + Errors.NESTED_PATH_SEPARATOR + field, field}, field)};
+        bindingResult.addError(new FieldError(objectName, field, rejectedValue, true, codes, arguments,
+                "Failed to convert property value of type 'java.lang.String' to required type '"
+                        + requiredType.getName() + "' for property '" + field + "'"));
+    }
+
+    private static final class Property<T> {
+        private final Class<?> valueType;
+        private final Function<String, ?> converter;
+        private final BiConsumer<T, Object> setter;
+
+        private Property(Class<?> valueType, Function<String, ?> converter, BiConsumer<T, Object> setter) {
+            this.valueType = valueType;
+            this.converter = converter;
+            this.setter = setter;
+        }
+    }
+}
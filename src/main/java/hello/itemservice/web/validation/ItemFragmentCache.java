@@ -0,0 +1,208 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.domain.item.Item;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.spring5.expression.ThymeleafEvaluationContext;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 하나를 그리는 템플릿 조각(상세 화면 본문, 목록의 한 줄)의 렌더링 결과 캐시
+ * 화면 템플릿에서 th:utext="${@itemFragmentCache.render('validation/v1/itemFragments', 'row', item)}" 로 사용
+ *
+ * 키는 (템플릿, 조각, locale, 상품 id) 이고 렌더링할 때 본 상품 값(버전 포함)을 같이 보관한다
+ * 저장소에서 읽은 상품과 값이 다르면 (수정되어 버전이 올라갔거나, 저장소를 비운 뒤 같은 id 로 새로 저장) 다시 렌더링해서 교체
+ * -> 저장소가 화면 캐시를 알 필요 없이 바뀐 상품만 정확히 무효화됨
+ *
+ * 전체 크기(추정 바이트)가 maxBytes 를 넘으면 가장 오래 안 쓴 조각부터 버린다 (0 이면 캐시하지 않음)
+ * 조각에서는 item 외의 모델 값, 요청 파라미터를 쓰면 안 된다 (다른 요청에 그대로 나감)
+ */
+public class ItemFragmentCache {
+
+    // 키, 보관한 상품, LinkedHashMap 노드 대략
+    private static final int ENTRY_OVERHEAD = 200;
+
+    private final SpringTemplateEngine templateEngine;
+    private final ApplicationContext applicationContext;
+    private final long maxBytes;
+
+    // 접근 순서 = LRU. 렌더링은 락 밖에서 하고 조회/교체만 잠근다
+    private final LinkedHashMap<Key, Fragment> cache = new LinkedHashMap<>(256, 0.75f, true);
+    private long bytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ItemFragmentCache(SpringTemplateEngine templateEngine, ApplicationContext applicationContext, long maxBytes) {
+        this.templateEngine = templateEngine;
+        this.applicationContext = applicationContext;
+        this.maxBytes = maxBytes;
+    }
+
+    public String render(String template, String fragment, Item item) {
+        Locale locale = LocaleContextHolder.getLocale();
+        Key key = new Key(template, fragment, locale, item.getId());
+        synchronized (cache) {
+            Fragment cached = cache.get(key);
+            if (cached != null && cached.item.equals(item)) {
+                hits.increment();
+                return cached.html;
+            }
+        }
+        misses.increment();
+        String html = process(template, fragment, item, locale);
+        if (maxBytes > 0) {
+            put(key, new Fragment(copyOf(item), html));
+        }
+        return html;
+    }
+
+    private void put(Key key, Fragment fragment) {
+        synchronized (cache) {
+            Fragment previous = cache.put(key, fragment);
+            if (previous != null) {
+                bytes -= previous.bytes;
+            }
+            bytes += fragment.bytes;
+            Iterator<Fragment> eldest = cache.values().iterator();
+            while (bytes > maxBytes && eldest.hasNext()) {
+                bytes -= eldest.next().bytes;
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private String process(String template, String fragment, Item item, Locale locale) {
+        RequestAttributes attributes = RequestContextHolder.currentRequestAttributes();
+        HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+        HttpServletResponse response = new NoUrlRewritingResponse(((ServletRequestAttributes) attributes).getResponse());
+
+        WebContext context = new WebContext(request, response, request.getServletContext(), locale,
+                Map.of("item", item));
+        context.setVariable(ThymeleafEvaluationContext.THYMELEAF_EVALUATION_CONTEXT_CONTEXT_VARIABLE_NAME,
+                new ThymeleafEvaluationContext(applicationContext, null));
+        return templateEngine.process(template, Set.of(fragment), context);
+    }
+
+    // 저장소 구현에 따라 조회한 객체를 그대로 돌려주기도 하므로 보관용 복사본
+    private static Item copyOf(Item item) {
+        Item copy = new Item(item.getItemName(), item.getPrice(), item.getQuantity());
+        copy.setId(item.getId());
+        copy.setVersion(item.getVersion());
+        return copy;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * 보관 중인 조각의 추정 크기 (문자 수 * 2 + 항목당 고정 비용)
+     */
+    public long bytes() {
+        synchronized (cache) {
+            return bytes;
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+            bytes = 0;
+        }
+    }
+
+    /**
+     * 세션을 쿠키로 추적하지 못하면 링크에 ;jsessionid 가 붙는데, 그대로 캐시되면 다른 사용자에게 나가므로 붙이지 않음
+     */
+    private static final class NoUrlRewritingResponse extends HttpServletResponseWrapper {
+
+        private NoUrlRewritingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public String encodeURL(String url) {
+            return url;
+        }
+    }
+
+    private static final class Fragment {
+        private final Item item;
+        private final String html;
+        private final long bytes;
+
+        private Fragment(Item item, String html) {
+            this.item = item;
+            this.html = html;
+            this.bytes = html.length() * 2L + ENTRY_OVERHEAD;
+        }
+    }
+
+    private static final class Key {
+        private final String template;
+        private final String fragment;
+        private final Locale locale;
+        private final Long itemId;
+        private final int hash;
+
+        private Key(String template, String fragment, Locale locale, Long itemId) {
+            this.template = template;
+            this.fragment = fragment;
+            this.locale = locale;
+            this.itemId = itemId;
+            this.hash = Objects.hash(template, fragment, locale, itemId);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return template.equals(other.template)
+                    && fragment.equals(other.fragment)
+                    && locale.equals(other.locale)
+                    && Objects.equals(itemId, other.itemId);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 상품 목록/상세 화면의 조건부 GET (If-None-Match 가 같으면 304, 조회/렌더링 생략)
+ *
+ * ETag = 서버 시작 시각 + 상품 버전(상세) 또는 전체 목록 버전(목록) + 화면을 바꾸는 파라미터 + locale
+ * - 시작 시각: 메모리 저장소는 재시작하면 버전이 처음부터 다시 시작하고, 배포로 템플릿이 바뀔 수도 있어서
+ * - locale: 같은 상품이라도 Accept-Language 에 따라 화면 문구가 달라서 (Vary: Accept-Language)
+ * Cache-Control: no-cache 로 매번 서버에 확인하게 한다 (수정 직후 옛 화면이 보이지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+public class ItemPageETags {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final ItemRepository itemRepository;
+
+    /**
+     * 목록을 조회하기 전에 호출할 것 (버전을 먼저 읽어야 버전보다 오래된 목록에 태그가 붙지 않음)
+     */
+    public boolean listNotModified(NativeWebRequest request, Long after, int limit) {
+        return checkNotModified(request, "l" + itemRepository.catalogVersion() + "-" + after + "-" + limit);
+    }
+
+    public boolean itemNotModified(NativeWebRequest request, Item item, boolean saved) {
+        if (item == null) {
+            return false;
+        }
+        return checkNotModified(request, "i" + item.getId() + "." + item.getVersion() + (saved ? "-s" : ""));
+    }
+
+    private boolean checkNotModified(NativeWebRequest request, String version) {
+        HttpServletResponse response = request.getNativeResponse(HttpServletResponse.class);
+        if (response != null) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        }
+        String locale = LocaleContextHolder.getLocale().toLanguageTag();
+        return request.checkNotModified("\"" + epoch + "-" + version + "-" + locale + "\"");
+    }
+}
@@ -0,0 +1,90 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.hibernate.validator.constraints.Range;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.Errors;
+
+import javax.validation.constraints.Max;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+
+/**
+ * 상품 검증 룰(필수, 가격 범위, 수량 최대, 가격 * 수량 최소)을 한 번만 읽어서 고정해 둔 검사기
+ * 한계값은 ItemSaveForm 의 @Range, @Max 에서 가져오므로 폼과 어긋나지 않는다
+ * 통과하면 아무것도 만들지 않고, 실패한 룰에 대해서만 오류 객체가 생긴다
+ */
+public final class ItemRules {
+
+    public static final int TOTAL_PRICE_MIN = 10000;
+
+    private static final ItemRules DEFAULT = compile(ItemSaveForm.class);
+
+    private final long priceMin;
+    private final long priceMax;
+    private final long quantityMax;
+
+    // 메시지 인자는 항상 같으니 미리 만들어 둠 (FieldError 가 배열을 그대로 참조)
+    private final Object[] rangeArgs;
+    private final Object[] maxArgs;
+
+    private ItemRules(long priceMin, long priceMax, long quantityMax) {
+        this.priceMin = priceMin;
+        this.priceMax = priceMax;
+        this.quantityMax = quantityMax;
+        this.rangeArgs = new Object[]{(int) priceMin, (int) priceMax};
+        this.maxArgs = new Object[]{(int) quantityMax};
+    }
+
+    public static ItemRules defaults() {
+        return DEFAULT;
+    }
+
+    /**
+     * price 필드의 @Range, quantity 필드의 @Max 를 읽어서 검사기를 만든다
+     */
+    public static ItemRules compile(Class<?> formClass) {
+        Range range = annotation(formClass, "price", Range.class);
+        Max max = annotation(formClass, "quantity", Max.class);
+        return new ItemRules(range.min(), range.max(), max.value());
+    }
+
+    public void check(String itemName, Integer price, Integer quantity, Errors errors) {
+        if (!StringUtils.hasText(itemName)) {
+            errors.rejectValue("itemName", "required");
+        }
+        if (price == null || price < priceMin || price > priceMax) {
+            errors.rejectValue("price", "range", rangeArgs, null);
+        }
+        if (quantity == null || quantity > quantityMax) {
+            errors.rejectValue("quantity", "max", maxArgs, null);
+        }
+        checkTotalPrice(price, quantity, errors);
+    }
+
+    /**
+     * 특정 필드가 아닌 복합 룰 (가격 * 수량 최소). int 곱셈은 넘칠 수 있어서 long
+     * Bean Validation 을 쓰는 검증기(ItemSaveFormValidator)도 이 룰만 여기서 가져다 씀
+     */
+    public static void checkTotalPrice(Integer price, Integer quantity, Errors errors) {
+        if (price != null && quantity != null) {
+            long resultPrice = (long) price * quantity;
+            if (resultPrice < TOTAL_PRICE_MIN) {
+                errors.reject("totalPriceMin", new Object[]{TOTAL_PRICE_MIN, resultPrice}, null);
+            }
+        }
+    }
+
+    private static <A extends Annotation> A annotation(Class<?> formClass, String fieldName, Class<A> type) {
+        try {
+            Field field = formClass.getDeclaredField(fieldName);
+            A annotation = field.getAnnotation(type);
+            if (annotation == null) {
+                throw new IllegalStateException(formClass.getSimpleName() + "." + fieldName + " 에 @" + type.getSimpleName() + " 이 없습니다.");
+            }
+            return annotation;
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(formClass.getSimpleName() + " 에 " + fieldName + " 필드가 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.web.validation.form.FailFast;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.hibernate.validator.HibernateValidator;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ObjectUtils;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+
+/**
+ * API 일괄 등록용 검증기. ItemSaveForm 의 Bean Validation + 가격 * 수량 복합 룰
+ * (컨트롤러 바깥에서 건별로 검증해야 하는 batch/import 에서 사용)
+ *
+ * FailFast 그룹으로 검증하면 (@Validated(FailFast.class) 또는 validate(form, errors, FailFast.class))
+ * 값 유무 -> 범위 -> 복합 룰 순서로 보다가 첫 오류에서 멈춘다
+ */
+@Component
+public class ItemSaveFormValidator implements SmartValidator, DisposableBean {
+
+    private final SpringValidatorAdapter beanValidator;
+    private final ValidatorFactory failFastFactory;
+    private final SpringValidatorAdapter failFastValidator;
+
+    public ItemSaveFormValidator(javax.validation.Validator validator) {
+        this.beanValidator = new SpringValidatorAdapter(validator);
+        // 위반 하나를 찾으면 나머지 제약은 보지 않음
+        this.failFastFactory = Validation.byProvider(HibernateValidator.class)
+                .configure()
+                .failFast(true)
+                .buildValidatorFactory();
+        this.failFastValidator = new SpringValidatorAdapter(failFastFactory.getValidator());
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return ItemSaveForm.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        ItemSaveForm form = (ItemSaveForm) target;
+        beanValidator.validate(form, errors);
+        checkTotalPrice(form, errors);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        if (!ObjectUtils.containsElement(validationHints, FailFast.class)) {
+            ItemSaveForm form = (ItemSaveForm) target;
+            beanValidator.validate(form, errors, validationHints);
+            checkTotalPrice(form, errors);
+            return;
+        }
+
+        // 바인딩에서 이미 실패(typeMismatch)했으면 검증할 필요 없음
+        if (errors.hasErrors()) {
+            return;
+        }
+        ItemSaveForm form = (ItemSaveForm) target;
+        failFastValidator.validate(form, errors, FailFast.class);
+        if (!errors.hasErrors()) {
+            checkTotalPrice(form, errors);
+        }
+    }
+
+    // 복합 룰은 MVC 검증기와 같은 ItemRules 것을 사용
+    private static void checkTotalPrice(ItemSaveForm form, Errors errors) {
+        ItemRules.checkTotalPrice(form.getPrice(), form.getQuantity(), errors);
+    }
+
+    @Override
+    public void destroy() {
+        failFastFactory.close();
+    }
+}
@@ -1,22 +1,18 @@
 package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.annotation.ComponentScan;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 import org.springframework.validation.Errors;
 import org.springframework.validation.Validator;
 
-import java.util.ArrayList;
-import java.util.List;
-
-@Slf4j
 @Component
 public class ItemValidator implements Validator {
+
+    private final ItemRules rules = ItemRules.defaults();
+
     @Override
     public boolean supports(Class<?> clazz) {
-        log.info("ㅇㅇㅇ {}", clazz);
+        // 바인더가 만들어질 때마다 불리므로 로그는 남기지 않음
         return Item.class.isAssignableFrom(clazz);
         // isAssignableFrom()을 쓰는 이유! 자식클래스까지 커버하기 위해서
     }
@@ -24,26 +20,8 @@ public class ItemValidator implements Validator {
     @Override
     public void validate(Object target, Errors errors) {
         Item item = (Item) target;
-
-        if (!StringUtils.hasText(item.getItemName())) {
-            errors.rejectValue("itemName", "required"); // 검증할 대상을 알고 있으니까 필드 이름만
-        }
-
-        if(item.getPrice() == null || item.getPrice() < 1000 || item.getPrice() > 1000000){
-            errors.rejectValue("price", "range", new Object[]{1000, 1000000}, null);
-        }
-        if (item.getQuantity() == null || item.getQuantity() > 9999) {
-            errors.rejectValue("quantity", "max", new Object[]{9999}, null);
-        }
-
-        //특정 필드가 아닌 복합 룰 검증
-        if(item.getPrice() != null && item.getQuantity() != null){
-            int resultPrice = item.getPrice() * item.getQuantity();
-            if (resultPrice < 10000) {
-//                errors.addError(new ObjectError("item", new String[]{"totalPriceMin"}, new Object[]{10000, resultPrice},null));
-                errors.reject("totalPriceMin", new Object[]{10000, resultPrice},null);
-            }
-        }
+        // 룰은 ItemRules 에 미리 고정되어 있음. 검증할 대상을 알고 있으니까 필드 이름만
+        rules.check(item.getItemName(), item.getPrice(), item.getQuantity(), errors);
     }
 
 }
@@ -0,0 +1,17 @@
+package hello.itemservice.web.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * @RequestBody 대신 사용. JSON 값의 타입이 맞지 않으면 예외 없이 typeMismatch 필드 오류로 바인딩한다
+ * (폼의 @ModelAttribute 와 같은 방식, 뒤에 BindingResult 파라미터 필요)
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface LenientJson {
+}
@@ -0,0 +1,189 @@
+package hello.itemservice.web.validation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.Conventions;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import javax.servlet.http.HttpServletRequest;
+import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * @LenientJson 파라미터 처리
+ * 본문을 JsonNode 로 읽은 뒤 필드마다 타입을 직접 확인해서 넣는다. 맞지 않으면 예외를 던지는 대신
+ * DefaultBindingErrorProcessor 와 같은 코드/인자로 typeMismatch 오류를 기록하고 다음 필드로 넘어간다
+ * 그 뒤 검증(@Validated)은 @RequestBody 와 똑같이 바인더의 검증기로 수행
+ */
+public class LenientJsonArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final Object MISMATCH = new Object();
+    // long 으로 표현할 수 없으면 NOT_A_LONG
+    private static final long NOT_A_LONG = Long.MIN_VALUE;
+
+    private final ObjectMapper objectMapper;
+
+    public LenientJsonArgumentResolver(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LenientJson.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        String name = Conventions.getVariableNameForParameter(parameter);
+        Object target = BeanUtils.instantiateClass(parameter.getParameterType());
+        WebDataBinder binder = binderFactory.createBinder(webRequest, target, name);
+        BindingResult bindingResult = binder.getBindingResult();
+
+        JsonNode body = readBody(webRequest);
+        if (body == null || !body.isObject()) {
+            bindingResult.reject("invalidJson");
+        } else {
+            bind(body, target, bindingResult);
+            validateIfApplicable(binder, parameter);
+        }
+
+        if (bindingResult.hasErrors() && isBindExceptionRequired(parameter)) {
+            throw new MethodArgumentNotValidException(parameter, bindingResult);
+        }
+        if (mavContainer != null) {
+            mavContainer.addAttribute(BindingResult.MODEL_KEY_PREFIX + name, bindingResult);
+        }
+        return target;
+    }
+
+    private JsonNode readBody(NativeWebRequest webRequest) throws IOException {
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        try {
+            return objectMapper.readTree(request.getInputStream());
+        } catch (JsonProcessingException e) {
+            // JSON 문법 자체가 깨진 경우는 필드를 알 수 없으므로 전역 오류로
+            return null;
+        }
+    }
+
+    private void bind(JsonNode body, Object target, BindingResult bindingResult) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(target);
+        Iterator<Map.Entry<String, JsonNode>> fields = body.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String fieldName = field.getKey();
+            if (!wrapper.isWritableProperty(fieldName)) {
+                continue; // 모르는 필드는 무시 (Jackson 기본 설정과 동일)
+            }
+            PropertyDescriptor descriptor = wrapper.getPropertyDescriptor(fieldName);
+            JsonNode node = field.getValue();
+            Object value = convert(node, descriptor.getPropertyType());
+            if (value == MISMATCH) {
+                rejectTypeMismatch(bindingResult, fieldName, node.isValueNode() ? node.asText() : node.toString());
+            } else {
+                wrapper.setPropertyValue(fieldName, value);
+            }
+        }
+    }
+
+    // DefaultBindingErrorProcessor.processPropertyAccessException 과 같은 오류
+    private static void rejectTypeMismatch(BindingResult bindingResult, String field, Object rejectedValue) {
+        String objectName = bindingResult.getObjectName();
+        String[] codes = bindingResult.resolveMessageCodes("typeMismatch", field);
+        Object[] arguments = {new DefaultMessageSourceResolvable(new String[]{objectName + Errors.NESTED_PATH_SEPARATOR + field, field}, field)};
+        bindingResult.addError(new FieldError(objectName, field, rejectedValue, true, codes, arguments,
+                "Failed to convert property value of type to required type for property '" + field + "'"));
+    }
+
+    private Object convert(JsonNode node, Class<?> type) {
+        if (node.isNull()) {
+            return type.isPrimitive() ? MISMATCH : null;
+        }
+        if (type == String.class) {
+            return node.isValueNode() ? node.asText() : MISMATCH;
+        }
+        if (type == Integer.class || type == int.class) {
+            long value = toLong(node);
+            return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? (Object) (int) value : MISMATCH;
+        }
+        if (type == Long.class || type == long.class) {
+            long value = toLong(node);
+            return value == NOT_A_LONG ? MISMATCH : (Object) value;
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            if (node.isBoolean()) {
+                return node.booleanValue();
+            }
+            String text = node.isTextual() ? node.textValue().trim() : "";
+            return text.equals("true") ? Boolean.TRUE : text.equals("false") ? Boolean.FALSE : MISMATCH;
+        }
+        // 그 외 타입은 Jackson 에 맡김 (자주 쓰이지 않는 경로)
+        try {
+            return objectMapper.treeToValue(node, type);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return MISMATCH;
+        }
+    }
+
+    // "10000" 같은 문자열 숫자는 폼 바인딩처럼 허용
+    private static long toLong(JsonNode node) {
+        if (node.isIntegralNumber()) {
+            return node.canConvertToLong() && node.longValue() != NOT_A_LONG ? node.longValue() : NOT_A_LONG;
+        }
+        if (!node.isTextual()) {
+            return NOT_A_LONG;
+        }
+        String text = node.textValue().trim();
+        int start = text.startsWith("-") || text.startsWith("+") ? 1 : 0;
+        if (text.length() == start || text.length() - start > 18) {
+            return NOT_A_LONG;
+        }
+        long value = 0;
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return NOT_A_LONG;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return text.charAt(0) == '-' ? -value : value;
+    }
+
+    // AbstractMessageConverterMethodArgumentResolver 와 같은 규칙 (@Validated, @Valid...)
+    private static void validateIfApplicable(WebDataBinder binder, MethodParameter parameter) {
+        for (Annotation annotation : parameter.getParameterAnnotations()) {
+            Validated validated = AnnotationUtils.getAnnotation(annotation, Validated.class);
+            if (validated != null || annotation.annotationType().getSimpleName().startsWith("Valid")) {
+                Object hints = validated != null ? validated.value() : AnnotationUtils.getValue(annotation);
+                binder.validate(hints instanceof Object[] ? (Object[]) hints : new Object[]{hints});
+                return;
+            }
+        }
+    }
+
+    private static boolean isBindExceptionRequired(MethodParameter parameter) {
+        int i = parameter.getParameterIndex();
+        Class<?>[] paramTypes = parameter.getExecutable().getParameterTypes();
+        return !(paramTypes.length > i + 1 && Errors.class.isAssignableFrom(paramTypes[i + 1]));
+    }
+}
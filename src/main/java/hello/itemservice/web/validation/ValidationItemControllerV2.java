@@ -15,6 +15,7 @@ import org.springframework.validation.ValidationUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.HashMap;
@@ -29,6 +30,7 @@ public class ValidationItemControllerV2 {
 
     //@RequiredArgsConstructor + 생성자 하나면 autowired 생략 가능
     private final ItemRepository itemRepository;
+    private final ItemPageETags itemPageETags;
     private final ItemValidator itemValidator;
 
     //RequiredArgsConstructor가 이걸 대신 해주는 거... 참고로 이 경우에도 Autowired 생략은 가능! 생성자 하나니까
@@ -45,15 +47,30 @@ public class ValidationItemControllerV2 {
     }
 
     @GetMapping
-    public String items(Model model) {
-        List<Item> items = itemRepository.findAll();
+    public String items(@RequestParam(required = false) Long after,
+                        @RequestParam(defaultValue = "20") int size, NativeWebRequest request, Model model) {
+        int limit = Math.min(Math.max(size, 1), 100);
+        if (itemPageETags.listNotModified(request, after, limit)) {
+            return null; // 304
+        }
+        // 다음 페이지가 있는지 보려고 하나 더 조회
+        List<Item> items = itemRepository.findPage(after, limit + 1);
+        if (items.size() > limit) {
+            items = items.subList(0, limit);
+            model.addAttribute("nextAfter", items.get(limit - 1).getId());
+        }
         model.addAttribute("items", items);
+        model.addAttribute("size", limit);
         return "validation/v2/items";
     }
 
     @GetMapping("/{itemId}")
-    public String item(@PathVariable long itemId, Model model) {
+    public String item(@PathVariable long itemId, @RequestParam(required = false) String status,
+                       NativeWebRequest request, Model model) {
         Item item = itemRepository.findById(itemId);
+        if (itemPageETags.itemNotModified(request, item, status != null)) {
+            return null; // 304
+        }
         model.addAttribute("item", item);
         return "validation/v2/item";
     }
@@ -15,6 +15,7 @@ import org.springframework.validation.ObjectError;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.List;
@@ -27,17 +28,33 @@ public class ValidationItemControllerV3 {
 
     //@RequiredArgsConstructor + 생성자 하나면 autowired 생략 가능
     private final ItemRepository itemRepository;
+    private final ItemPageETags itemPageETags;
 
     @GetMapping
-    public String items(Model model) {
-        List<Item> items = itemRepository.findAll();
+    public String items(@RequestParam(required = false) Long after,
+                        @RequestParam(defaultValue = "20") int size, NativeWebRequest request, Model model) {
+        int limit = Math.min(Math.max(size, 1), 100);
+        if (itemPageETags.listNotModified(request, after, limit)) {
+            return null; // 304
+        }
+        // 다음 페이지가 있는지 보려고 하나 더 조회
+        List<Item> items = itemRepository.findPage(after, limit + 1);
+        if (items.size() > limit) {
+            items = items.subList(0, limit);
+            model.addAttribute("nextAfter", items.get(limit - 1).getId());
+        }
         model.addAttribute("items", items);
+        model.addAttribute("size", limit);
         return "validation/v3/items";
     }
 
     @GetMapping("/{itemId}")
-    public String item(@PathVariable long itemId, Model model) {
+    public String item(@PathVariable long itemId, @RequestParam(required = false) String status,
+                       NativeWebRequest request, Model model) {
         Item item = itemRepository.findById(itemId);
+        if (itemPageETags.itemNotModified(request, item, status != null)) {
+            return null; // 304
+        }
         model.addAttribute("item", item);
         return "validation/v3/item";
     }
@@ -0,0 +1,90 @@
+package hello.itemservice.web.validation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증 관련 지표
+ * - item.validation.binding       : 엔드포인트별 바인딩 + 검증 시간 (히스토그램)
+ * - item.validation.rejected      : 엔드포인트/객체/필드/오류코드별 거절 건수 (ex. range + item + price)
+ * - item.validation.type.mismatch : 엔드포인트/필드별 타입 변환 실패 건수
+ *
+ * 미터는 처음 한 번만 만들고 맵에 보관해서, 요청마다 registry 를 찾지 않는다
+ */
+@Component
+public class ValidationMetrics {
+
+    public static final String NO_FIELD = "none";
+
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<String, Timer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public ValidationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public void recordBinding(String uri, long nanos) {
+        Timer timer = timers.get(uri);
+        if (timer == null) {
+            timer = timers.computeIfAbsent(uri, u -> Timer.builder("item.validation.binding")
+                    .description("요청 바인딩 + 검증 시간")
+                    .tag("uri", u)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(1_000))
+                    .maximumExpectedValue(Duration.ofMillis(100))
+                    .register(registry));
+        }
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 오류가 없으면 아무것도 하지 않음
+     */
+    public void recordErrors(String uri, Errors errors) {
+        if (!errors.hasErrors()) {
+            return;
+        }
+        for (ObjectError error : errors.getAllErrors()) {
+            String field = NO_FIELD;
+            if (error instanceof FieldError) {
+                FieldError fieldError = (FieldError) error;
+                field = fieldError.getField();
+                if (fieldError.isBindingFailure()) {
+                    recordTypeMismatch(uri, field);
+                }
+            }
+            rejected(uri, error.getObjectName(), field, String.valueOf(error.getCode())).increment();
+        }
+    }
+
+    public void recordTypeMismatch(String uri, String field) {
+        counters.computeIfAbsent("typeMismatch|" + uri + '|' + field,
+                k -> Counter.builder("item.validation.type.mismatch")
+                        .description("타입 변환 실패 건수")
+                        .tag("uri", uri)
+                        .tag("field", field)
+                        .register(registry))
+                .increment();
+    }
+
+    private Counter rejected(String uri, String objectName, String field, String code) {
+        return counters.computeIfAbsent("rejected|" + uri + '|' + objectName + '|' + field + '|' + code,
+                k -> Counter.builder("item.validation.rejected")
+                        .description("검증 오류 건수")
+                        .tag("uri", uri)
+                        .tag("object", objectName)
+                        .tag("field", field)
+                        .tag("code", code)
+                        .register(registry));
+    }
+}
@@ -0,0 +1,92 @@
+package hello.itemservice.web.validation;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.BindException;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @ModelAttribute, @RequestBody 처리기를 감싸서 바인딩 + 검증 시간을 기록
+ * 만들어진 BindingResult 는 요청 속성에 모아 두고, 컨트롤러가 직접 추가하는 오류까지 포함해서
+ * 요청이 끝날 때 ValidationMetricsInterceptor 가 센다
+ */
+public class ValidationMetricsArgumentResolver implements HandlerMethodArgumentResolver {
+
+    public static final String BINDING_RESULTS = ValidationMetricsArgumentResolver.class.getName() + ".BINDING_RESULTS";
+    static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final HandlerMethodArgumentResolver delegate;
+    private final ValidationMetrics metrics;
+
+    public ValidationMetricsArgumentResolver(HandlerMethodArgumentResolver delegate, ValidationMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return delegate.supportsParameter(parameter);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        long start = System.nanoTime();
+        try {
+            Object argument = delegate.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+            if (mavContainer != null) {
+                for (Object value : mavContainer.getModel().values()) {
+                    if (value instanceof BindingResult && ((BindingResult) value).getTarget() == argument) {
+                        collect(webRequest, (BindingResult) value);
+                    }
+                }
+            }
+            return argument;
+        } catch (BindException e) {
+            // BindingResult 파라미터가 없어서 예외로 끝나는 경우 (MethodArgumentNotValidException 포함)
+            collect(webRequest, e.getBindingResult());
+            throw e;
+        } catch (HttpMessageNotReadableException e) {
+            // JSON 을 객체로 바꾸지 못한 경우 (ex. price 에 문자)
+            metrics.recordTypeMismatch(uri(webRequest), fieldOf(e));
+            throw e;
+        } finally {
+            metrics.recordBinding(uri(webRequest), System.nanoTime() - start);
+        }
+    }
+
+    static String uri(RequestAttributes request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return pattern == null ? UNKNOWN_URI : pattern.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void collect(NativeWebRequest webRequest, BindingResult bindingResult) {
+        List<BindingResult> bindingResults = (List<BindingResult>) webRequest.getAttribute(BINDING_RESULTS, RequestAttributes.SCOPE_REQUEST);
+        if (bindingResults == null) {
+            bindingResults = new ArrayList<>(1);
+            webRequest.setAttribute(BINDING_RESULTS, bindingResults, RequestAttributes.SCOPE_REQUEST);
+        }
+        bindingResults.add(bindingResult);
+    }
+
+    private static String fieldOf(HttpMessageNotReadableException e) {
+        if (e.getCause() instanceof JsonMappingException) {
+            List<JsonMappingException.Reference> path = ((JsonMappingException) e.getCause()).getPath();
+            if (!path.isEmpty() && path.get(path.size() - 1).getFieldName() != null) {
+                return path.get(path.size() - 1).getFieldName();
+            }
+        }
+        return ValidationMetrics.NO_FIELD;
+    }
+}
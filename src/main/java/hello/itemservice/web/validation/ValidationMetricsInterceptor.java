@@ -0,0 +1,35 @@
+package hello.itemservice.web.validation;
+
+import org.springframework.validation.BindingResult;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.List;
+
+/**
+ * 요청이 끝난 뒤 BindingResult 의 최종 오류를 센다 (컨트롤러에서 reject 한 totalPriceMin 등 포함)
+ */
+public class ValidationMetricsInterceptor implements HandlerInterceptor {
+
+    private final ValidationMetrics metrics;
+
+    public ValidationMetricsInterceptor(ValidationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        List<BindingResult> bindingResults = (List<BindingResult>) request.getAttribute(ValidationMetricsArgumentResolver.BINDING_RESULTS);
+        if (bindingResults == null) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? ValidationMetricsArgumentResolver.UNKNOWN_URI : pattern.toString();
+        for (BindingResult bindingResult : bindingResults) {
+            metrics.recordErrors(uri, bindingResult);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package hello.itemservice.web.validation.form;
+
+import javax.validation.GroupSequence;
+
+/**
+ * 싼 검증부터 차례로 수행하고 처음 실패한 단계에서 멈춘다
+ * 필드가 모두 통과해야 복합 룰(totalPriceMin)까지 간다 - ItemSaveFormValidator
+ *
+ * @Validated(FailFast.class) 면 오류 하나만, @Validated 면 기존처럼 전체 오류 (HTML 폼)
+ */
+@GroupSequence({PresenceCheck.class, RangeCheck.class})
+public interface FailFast {
+
+}
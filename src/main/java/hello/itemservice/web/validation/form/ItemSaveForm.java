@@ -6,19 +6,21 @@ import org.hibernate.validator.constraints.Range;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.groups.Default;
 
 @Data
 public class ItemSaveForm {
 
-    @NotBlank
+    //Default 는 전체 검증, PresenceCheck/RangeCheck 는 FailFast 순서 검증
+    @NotBlank(groups = {Default.class, PresenceCheck.class})
     private String itemName;
 
-    @NotNull
-    @Range(min = 1000, max = 1000000)
+    @NotNull(groups = {Default.class, PresenceCheck.class})
+    @Range(min = 1000, max = 1000000, groups = {Default.class, RangeCheck.class})
     private Integer price;
 
-    @NotNull
-    @Max(value = 9999)
+    @NotNull(groups = {Default.class, PresenceCheck.class})
+    @Max(value = 9999, groups = {Default.class, RangeCheck.class})
     private Integer quantity;
 
 }
@@ -0,0 +1,8 @@
+package hello.itemservice.web.validation.form;
+
+/**
+ * 값이 있는지만 보는 검증 (@NotNull, @NotBlank). 가장 싸서 먼저 수행
+ */
+public interface PresenceCheck {
+
+}
@@ -0,0 +1,8 @@
+package hello.itemservice.web.validation.form;
+
+/**
+ * 값의 범위 검증 (@Range, @Max). 값이 모두 있을 때만 의미가 있다
+ */
+public interface RangeCheck {
+
+}
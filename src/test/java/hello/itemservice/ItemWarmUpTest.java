@@ -0,0 +1,64 @@
+package hello.itemservice;
+
+import hello.itemservice.web.validation.CachingMessageCodesResolver;
+import hello.itemservice.web.validation.ItemFragmentCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.validation.MessageCodesResolver;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 시작할 때 warm-up 이 실제 톰캣으로 화면과 검증 경로를 돌아서 캐시를 채워 두는지
+ * (첫 요청 응답 시간 자체는 장비 부하에 따라 달라서 검사하지 않음)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "item.warm-up.enabled=true")
+class ItemWarmUpTest {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    ItemWarmUp itemWarmUp;
+
+    @Autowired
+    MessageCodesResolver messageCodesResolver;
+
+    @Autowired
+    ItemFragmentCache itemFragmentCache;
+
+    @Test
+    void warmUpBeforeFirstRequest() {
+        //then 요청이 오기 전에 이미 v1~v4 목록, 등록 폼, 상세, 수정 폼
+        assertThat(itemWarmUp.getWarmedPages()).isEqualTo(4 * 4);
+        assertThat(itemWarmUp.getWarmedErrors()).isPositive();
+        assertThat(((CachingMessageCodesResolver) messageCodesResolver).size()).isPositive();
+        assertThat(itemFragmentCache.size()).isPositive();
+
+        // 첫 요청도 정상 응답
+        assertThat(addForm()).contains("itemName");
+        assertThat(invalidAdd()).contains("field-error");
+    }
+
+    private String addForm() {
+        return restTemplate.getForObject("/validation/v4/items/add", String.class);
+    }
+
+    private String invalidAdd() {
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("itemName", "");
+        form.add("price", "10");
+        form.add("quantity", "10000");
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+        return restTemplate.postForObject("/validation/v4/items/add", new HttpEntity<>(form, headers), String.class);
+    }
+}
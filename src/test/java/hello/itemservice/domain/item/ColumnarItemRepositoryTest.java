@@ -0,0 +1,201 @@
+package hello.itemservice.domain.item;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ColumnarItemRepositoryTest {
+
+    ItemRepository itemRepository = new ColumnarItemRepository();
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.clearStore();
+    }
+
+    @Test
+    void save() {
+        //given
+        Item item = new Item("itemA", 10000, 10);
+
+        //when
+        Item savedItem = itemRepository.save(item);
+
+        //then
+        Item findItem = itemRepository.findById(item.getId());
+        assertThat(findItem).isEqualTo(savedItem);
+    }
+
+    @Test
+    void findAll() {
+        //given
+        Item item1 = new Item("item1", 10000, 10);
+        Item item2 = new Item("item2", null, null);
+
+        itemRepository.save(item1);
+        itemRepository.save(item2);
+
+        //when
+        List<Item> result = itemRepository.findAll();
+
+        //then
+        assertThat(result).containsExactly(item1, item2);
+    }
+
+    @Test
+    void findPage() {
+        //given
+        for (int i = 1; i <= 5; i++) {
+            itemRepository.save(new Item("item" + i, 10000, 10));
+        }
+
+        //when
+        List<Item> first = itemRepository.findPage(null, 2);
+        List<Item> second = itemRepository.findPage(first.get(1).getId(), 2);
+        List<Item> last = itemRepository.findPage(second.get(1).getId(), 2);
+
+        //then
+        assertThat(first).extracting(Item::getItemName).containsExactly("item1", "item2");
+        assertThat(second).extracting(Item::getItemName).containsExactly("item3", "item4");
+        assertThat(last).extracting(Item::getItemName).containsExactly("item5");
+        assertThat(itemRepository.findPage(last.get(0).getId(), 2)).isEmpty();
+    }
+
+    @Test
+    void updateItem() {
+        //given
+        Item savedItem = itemRepository.save(new Item("item1", 10000, 10));
+        Long itemId = savedItem.getId();
+
+        //when
+        itemRepository.update(itemId, new Item("item2", 20000, null));
+        Item findItem = itemRepository.findById(itemId);
+
+        //then
+        assertThat(findItem.getItemName()).isEqualTo("item2");
+        assertThat(findItem.getPrice()).isEqualTo(20000);
+        assertThat(findItem.getQuantity()).isNull();
+        assertThat(findItem.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    void findByPriceBetween() {
+        //given
+        Item item1 = itemRepository.save(new Item("item1", 30000, 10));
+        Item item2 = itemRepository.save(new Item("item2", 10000, 10));
+        itemRepository.save(new Item("item3", null, 10));
+
+        //when
+        List<Item> result = itemRepository.findByPriceBetween(10000, 30000, 10);
+
+        //then
+        assertThat(result).extracting(Item::getId).containsExactly(item2.getId(), item1.getId());
+    }
+
+    @Test
+    void statsFollowsUpdateAndRestore() {
+        //given
+        Item item1 = itemRepository.save(new Item("item1", 30000, 10));
+        itemRepository.save(new Item("item2", 10000, 10));
+        itemRepository.save(new Item("item3", null, 10));
+
+        //when
+        itemRepository.update(item1.getId(), new Item("item1", 5000, null));
+        Item restored = new Item("restored", 70000, 3);
+        restored.setId(item1.getId());
+        restored.setVersion(5L);
+        itemRepository.restore(restored);
+
+        //then
+        ItemStats stats = itemRepository.stats();
+        assertThat(stats).isEqualTo(ItemStats.of(itemRepository.findAll()));
+        assertThat(stats.getPriceMin()).isEqualTo(10000);
+        assertThat(stats.getPriceMax()).isEqualTo(70000);
+        assertThat(stats.getInventoryValue()).isEqualTo(70000 * 3 + 10000 * 10);
+    }
+
+    @Test
+    void findByIdAfterGrow() {
+        for (int i = 0; i < 10_000; i++) {
+            itemRepository.save(new Item("item" + i, 1000 + i, i));
+        }
+
+        assertThat(itemRepository.findById(7777L).getItemName()).isEqualTo("item7776");
+        assertThat(itemRepository.findById(7777L).getPrice()).isEqualTo(8776);
+        assertThat(itemRepository.findById(10_001L)).isNull();
+    }
+
+    @Test
+    void idZeroIsNotFound() {
+        //given
+        Item savedItem = itemRepository.save(new Item("item1", 10000, 10));
+
+        //when id 0 은 빈 칸 표시라서 저장된 적이 없음
+        Item findItem = itemRepository.findById(0L);
+        itemRepository.update(0L, new Item("other", 20000, 20));
+
+        //then 다른 상품이 바뀌지 않음
+        assertThat(findItem).isNull();
+        assertThat(itemRepository.findById(savedItem.getId())).isEqualTo(savedItem);
+        assertThat(itemRepository.findAll()).containsExactly(savedItem);
+    }
+
+    @Test
+    void namePoolDropsUnusedNames() {
+        //given 같은 이름 두 건
+        ColumnarItemRepository repository = new ColumnarItemRepository();
+        Item itemA = repository.save(new Item("shared", 10000, 10));
+        repository.save(new Item("shared", 10000, 10));
+
+        //when 한 건을 계속 다른 이름으로 수정
+        for (int i = 0; i < 1000; i++) {
+            repository.update(itemA.getId(), new Item("renamed" + i, 10000, 10));
+        }
+        repository.update(itemA.getId(), new Item("renamed999", 10000, 10));
+
+        //then 지금 쓰이는 이름만 남음
+        assertThat(repository.namePoolSize()).isEqualTo(2);
+        assertThat(repository.findById(itemA.getId()).getItemName()).isEqualTo("renamed999");
+        assertThat(repository.findByItemName("shared")).hasSize(1);
+    }
+
+    /**
+     * 100만 건 기준 기존 map 저장소와 힙 사용량 비교
+     * 저장소마다 100만 건 + System.gc() 라서 느리고 GC 타이밍에 따라 흔들림 -> 기본 test 에서 제외 (./gradlew slowTest)
+     */
+    @Test
+    @Tag("slow")
+    void memoryFootprint() {
+        int count = 1_000_000;
+
+        long mapBytes = retainedBytes(MemoryItemRepository::new, count);
+        long columnarBytes = retainedBytes(ColumnarItemRepository::new, count);
+
+        assertThat(columnarBytes).isLessThan(mapBytes / 2);
+    }
+
+    private long retainedBytes(Supplier<ItemRepository> factory, int count) {
+        long before = usedMemory();
+        ItemRepository repository = factory.get();
+        for (int i = 0; i < count; i++) {
+            // SKU 이름은 반복된다고 가정, 요청마다 새 String 인스턴스로 들어옴
+            repository.save(new Item("item" + (i % 1000), 1000 + i % 100_000, i % 9999));
+        }
+        long after = usedMemory();
+        assertThat(repository.findById((long) count)).isNotNull();
+        return after - before;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
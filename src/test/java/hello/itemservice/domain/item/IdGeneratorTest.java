@@ -0,0 +1,157 @@
+package hello.itemservice.domain.item;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IdGeneratorTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void sequenceBlock() {
+        //given
+        SequenceIdGenerator generator = new SequenceIdGenerator();
+        generator.nextId();
+
+        //when
+        long[] ids = generator.nextIds(3);
+        generator.observe(100);
+
+        //then
+        assertThat(ids).containsExactly(2, 3, 4);
+        assertThat(generator.nextId()).isEqualTo(101);
+    }
+
+    @Test
+    void snowflakeNodesDoNotCollide() throws Exception {
+        //given 노드 8개가 동시에 발급
+        List<IdGenerator> nodes = new ArrayList<>();
+        for (int node = 0; node < 8; node++) {
+            nodes.add(new SnowflakeIdGenerator(node));
+        }
+
+        //when
+        Set<Long> ids = generateConcurrently(nodes, 4, 20_000);
+
+        //then
+        assertThat(ids).hasSize(8 * 4 * 20_000);
+        assertThat(ids).allMatch(id -> id > 0);
+        assertThat(ids.stream().map(SnowflakeIdGenerator::nodeOf).distinct()).hasSize(8);
+    }
+
+    @Test
+    void snowflakeSequenceOverflowAndClockBackwards() {
+        //given 시계가 멈추거나 뒤로 감
+        AtomicLong clock = new AtomicLong(SnowflakeIdGenerator.EPOCH + 1_000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, clock::get);
+
+        //when 같은 밀리초에 순번(4096)보다 많이, 그 뒤 시계를 1초 되돌림
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.nextId());
+        }
+        clock.addAndGet(-1_000);
+        for (int i = 0; i < 100; i++) {
+            ids.add(generator.nextId());
+        }
+
+        //then 겹치지 않고 계속 증가
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        assertThat(ids).allMatch(id -> SnowflakeIdGenerator.nodeOf(id) == 3);
+    }
+
+    @Test
+    void blockLeasingNodesDoNotCollide() throws Exception {
+        //given 같은 카운터 파일을 쓰는 인스턴스 4개
+        Path counter = dir.resolve("item-id.block");
+        List<IdGenerator> nodes = new ArrayList<>();
+        for (int node = 0; node < 4; node++) {
+            nodes.add(new BlockLeasingIdGenerator(counter, 100));
+        }
+
+        //when
+        Set<Long> ids = generateConcurrently(nodes, 4, 10_000);
+
+        //then
+        assertThat(ids).hasSize(4 * 4 * 10_000);
+        assertThat(ids).allMatch(id -> id > 0);
+        for (IdGenerator node : nodes) {
+            ((BlockLeasingIdGenerator) node).close();
+        }
+    }
+
+    @Test
+    void blockLeasingAfterRestart() {
+        //given
+        Path counter = dir.resolve("item-id.block");
+        BlockLeasingIdGenerator before = new BlockLeasingIdGenerator(counter, 1000);
+        long first = before.nextId();
+        before.nextId();
+        before.close();
+
+        //when 재시작
+        BlockLeasingIdGenerator after = new BlockLeasingIdGenerator(counter, 1000);
+        long next = after.nextId();
+        after.observe(5000);
+        long observed = after.nextId();
+        after.close();
+
+        //then 빌려 간 구간은 다시 쓰지 않음, 복구된 id 뒤부터
+        assertThat(first).isEqualTo(1);
+        assertThat(next).isEqualTo(1001);
+        assertThat(observed).isEqualTo(5001);
+    }
+
+    @Test
+    void repositoryWithSnowflake() {
+        //given
+        ItemRepository repository = new MemoryItemRepository(new SnowflakeIdGenerator(7));
+
+        //when
+        Item item1 = repository.save(new Item("item1", 10000, 10));
+        List<Item> batch = repository.saveAll(List.of(new Item("item2", 10000, 10), new Item("item3", 10000, 10)));
+
+        //then id 순서 = 저장 순서
+        assertThat(repository.findPage(null, 10)).extracting(Item::getItemName).containsExactly("item1", "item2", "item3");
+        assertThat(repository.findById(batch.get(1).getId()).getItemName()).isEqualTo("item3");
+        assertThat(SnowflakeIdGenerator.nodeOf(item1.getId())).isEqualTo(7);
+    }
+
+    private static Set<Long> generateConcurrently(List<IdGenerator> nodes, int threadsPerNode, int idsPerThread) throws Exception {
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(nodes.size() * threadsPerNode);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (IdGenerator node : nodes) {
+            for (int t = 0; t < threadsPerNode; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < idsPerThread; i++) {
+                        ids.add(node.nextId());
+                    }
+                    return null;
+                }));
+            }
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        return ids;
+    }
+}
@@ -3,13 +3,23 @@ package hello.itemservice.domain.item;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
 
 class ItemRepositoryTest {
 
-    ItemRepository itemRepository = new ItemRepository();
+    ItemRepository itemRepository = new MemoryItemRepository();
 
     @AfterEach
     void afterEach() {
@@ -29,6 +39,21 @@ class ItemRepositoryTest {
         assertThat(findItem).isEqualTo(savedItem);
     }
 
+    @Test
+    void saveAll() {
+        //given
+        itemRepository.save(new Item("item0", 10000, 10));
+        List<Item> items = List.of(new Item("item1", 10000, 10), new Item("item2", 20000, 20));
+
+        //when
+        itemRepository.saveAll(items);
+
+        //then 연속된 id 블록
+        assertThat(items).extracting(Item::getId).containsExactly(2L, 3L);
+        assertThat(itemRepository.findById(3L).getItemName()).isEqualTo("item2");
+        assertThat(itemRepository.findByPriceBetween(20000, 20000, 10)).hasSize(1);
+    }
+
     @Test
     void findAll() {
         //given
@@ -46,6 +71,25 @@ class ItemRepositoryTest {
         assertThat(result).contains(item1, item2);
     }
 
+    @Test
+    void findPage() {
+        //given
+        for (int i = 1; i <= 5; i++) {
+            itemRepository.save(new Item("item" + i, 10000, 10));
+        }
+
+        //when
+        List<Item> first = itemRepository.findPage(null, 2);
+        List<Item> second = itemRepository.findPage(first.get(1).getId(), 2);
+        List<Item> last = itemRepository.findPage(second.get(1).getId(), 2);
+
+        //then
+        assertThat(first).extracting(Item::getItemName).containsExactly("item1", "item2");
+        assertThat(second).extracting(Item::getItemName).containsExactly("item3", "item4");
+        assertThat(last).extracting(Item::getItemName).containsExactly("item5");
+        assertThat(itemRepository.findPage(last.get(0).getId(), 2)).isEmpty();
+    }
+
     @Test
     void updateItem() {
         //given
@@ -65,4 +109,223 @@ class ItemRepositoryTest {
         assertThat(findItem.getPrice()).isEqualTo(updateParam.getPrice());
         assertThat(findItem.getQuantity()).isEqualTo(updateParam.getQuantity());
     }
+
+    @Test
+    void updateReplacesSnapshot() {
+        //given
+        Item savedItem = itemRepository.save(new Item("item1", 10000, 10));
+        Item before = itemRepository.findById(savedItem.getId());
+
+        //when
+        itemRepository.update(savedItem.getId(), new Item("item2", 20000, 30));
+        Item after = itemRepository.findById(savedItem.getId());
+
+        //then 이전에 조회한 객체는 그대로, 새 버전이 따로 발행됨
+        assertThat(before.getItemName()).isEqualTo("item1");
+        assertThat(before.getPrice()).isEqualTo(10000);
+        assertThat(before.getVersion()).isEqualTo(1L);
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.getItemName()).isEqualTo("item2");
+        assertThat(after.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    void catalogVersion() {
+        //given
+        long initial = itemRepository.catalogVersion();
+        Item savedItem = itemRepository.save(new Item("item1", 10000, 10));
+        long afterSave = itemRepository.catalogVersion();
+
+        //when
+        itemRepository.update(savedItem.getId(), new Item("item2", 20000, 30));
+        long afterUpdate = itemRepository.catalogVersion();
+        itemRepository.update(-1L, new Item("none", 1000, 1));
+
+        //then 없는 상품 수정은 목록을 바꾸지 않음
+        assertThat(afterSave).isGreaterThan(initial);
+        assertThat(afterUpdate).isGreaterThan(afterSave);
+        assertThat(itemRepository.catalogVersion()).isEqualTo(afterUpdate);
+    }
+
+    @Test
+    void saveDoesNotShareInstance() {
+        //given
+        Item item = new Item("item1", 10000, 10);
+        itemRepository.save(item);
+
+        //when 저장 후 원본을 고쳐도
+        item.setPrice(1);
+
+        //then
+        assertThat(itemRepository.findById(item.getId()).getPrice()).isEqualTo(10000);
+    }
+
+    @Test
+    void saveConcurrently() throws Exception {
+        //given
+        int threadCount = 16;
+        int savePerThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+
+        //when
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                List<Long> ids = new ArrayList<>();
+                for (int i = 0; i < savePerThread; i++) {
+                    ids.add(itemRepository.save(new Item("item", 10000, 10)).getId());
+                }
+                return ids;
+            }));
+        }
+        start.countDown();
+
+        Set<Long> ids = new HashSet<>();
+        for (Future<List<Long>> future : futures) {
+            ids.addAll(future.get());
+        }
+        executor.shutdown();
+
+        //then 중복 id도, 유실된 저장도 없어야 함
+        assertThat(ids).hasSize(threadCount * savePerThread);
+        assertThat(itemRepository.findAll()).hasSize(threadCount * savePerThread);
+        for (Long id : ids) {
+            assertThat(itemRepository.findById(id).getId()).isEqualTo(id);
+        }
+    }
+
+    @Test
+    void stats() {
+        //given int 범위를 넘는 재고 금액 (1,000,000 * 9,999 * 300)
+        for (int i = 0; i < 300; i++) {
+            itemRepository.save(new Item("item" + i, 1_000_000, 9_999));
+        }
+        Item cheap = itemRepository.save(new Item("cheap", 1000, 1));
+        itemRepository.save(new Item("noPrice", null, 10));
+
+        //when
+        itemRepository.update(cheap.getId(), new Item("cheap", 2000, 2));
+        ItemStats stats = itemRepository.stats();
+
+        //then 수정 전 가격(1000)은 최소값에서 빠짐
+        assertThat(stats.getCount()).isEqualTo(302);
+        assertThat(stats.getInventoryValue()).isEqualTo(300L * 1_000_000 * 9_999 + 2000 * 2);
+        assertThat(stats.getPriceMin()).isEqualTo(2000);
+        assertThat(stats.getPriceMax()).isEqualTo(1_000_000);
+        assertThat(stats.getPriceAverage()).isEqualTo((300.0 * 1_000_000 + 2000) / 301);
+    }
+
+    @Test
+    void statsConcurrently() throws Exception {
+        //given 저장과 수정이 섞인 동시 쓰기
+        int threadCount = 8;
+        int writesPerThread = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+
+        //when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            int seed = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                Random random = new Random(seed);
+                for (int i = 0; i < writesPerThread; i++) {
+                    Integer price = random.nextInt(10) == 0 ? null : 1000 + random.nextInt(1_000_000);
+                    Item item = new Item("item", price, random.nextInt(10_000));
+                    if (i % 3 == 2) {
+                        itemRepository.update(1L + random.nextInt(threadCount * i), item);
+                    } else {
+                        itemRepository.save(item);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        //then 쓰기가 끝난 뒤 집계는 전체를 다시 계산한 값과 같아야 함
+        ItemStats stats = itemRepository.stats();
+        assertThat(stats).isEqualTo(ItemStats.of(itemRepository.findAll()));
+    }
+
+    @Test
+    void findByItemName() {
+        //given
+        Item item1 = itemRepository.save(new Item("itemA", 10000, 10));
+        itemRepository.save(new Item("itemB", 10000, 10));
+        Item item3 = itemRepository.save(new Item("itemA", 20000, 20));
+
+        //when
+        List<Item> result = itemRepository.findByItemName("itemA");
+
+        //then
+        assertThat(result).extracting(Item::getId).containsExactly(item1.getId(), item3.getId());
+    }
+
+    @Test
+    void findByPriceBetween() {
+        //given
+        Item item1 = itemRepository.save(new Item("item1", 30000, 10));
+        Item item2 = itemRepository.save(new Item("item2", 10000, 10));
+        Item item3 = itemRepository.save(new Item("item3", 20000, 10));
+        itemRepository.save(new Item("item4", 50000, 10));
+        itemRepository.save(new Item("item5", null, 10));
+
+        //when
+        List<Item> result = itemRepository.findByPriceBetween(10000, 30000, 10);
+        List<Item> limited = itemRepository.findByPriceBetween(10000, 30000, 2);
+
+        //then 가격 순
+        assertThat(result).extracting(Item::getId).containsExactly(item2.getId(), item3.getId(), item1.getId());
+        assertThat(limited).extracting(Item::getId).containsExactly(item2.getId(), item3.getId());
+    }
+
+    @Test
+    void indexFollowsUpdate() {
+        //given
+        Item item = itemRepository.save(new Item("itemA", 10000, 10));
+
+        //when
+        itemRepository.update(item.getId(), new Item("itemB", 90000, 10));
+
+        //then 이전 값으로는 더 이상 조회되지 않음
+        assertThat(itemRepository.findByItemName("itemA")).isEmpty();
+        assertThat(itemRepository.findByItemName("itemB")).extracting(Item::getVersion).containsExactly(2L);
+        assertThat(itemRepository.findByPriceBetween(0, 50000, 10)).isEmpty();
+        assertThat(itemRepository.findByPriceBetween(90000, 90000, 10)).hasSize(1);
+        assertThat(itemRepository.findByQuantityBetween(10, 10, 10)).hasSize(1);
+    }
+
+    /**
+     * 인덱스 조회 결과 = 전체 스캔 결과 (크기별 비용 비교는 jmh ItemIndexBenchmark)
+     */
+    @Test
+    void indexMatchesScan() {
+        //given
+        for (int i = 0; i < 10_000; i++) {
+            itemRepository.save(new Item("item" + i % 100, 1000 + i, i % 9999));
+        }
+
+        //when
+        List<Item> byIndex = itemRepository.findByPriceBetween(5000, 5100, 10);
+
+        //then
+        assertThat(byIndex).isEqualTo(scanByPrice(5000, 5100, 10));
+        assertThat(itemRepository.findByItemName("item7")).hasSize(100);
+    }
+
+    private List<Item> scanByPrice(int min, int max, int limit) {
+        return itemRepository.findAll().stream()
+                .filter(item -> item.getPrice() >= min && item.getPrice() <= max)
+                .sorted(Comparator.comparing(Item::getPrice).thenComparing(Item::getId))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,79 @@
+package hello.itemservice.domain.item;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ItemSnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void writeAndLoad() {
+        //given
+        ItemRepository source = new MemoryItemRepository();
+        source.save(new Item("itemA", 10000, 10));
+        Item itemB = source.save(new Item("상품B", null, 20));
+        source.save(new Item(null, 30000, null));
+        source.update(itemB.getId(), new Item("상품B2", 20000, 20));
+        Path path = dir.resolve("items.snapshot");
+
+        //when
+        int written = ItemSnapshot.write(source, path);
+        ItemRepository target = new MemoryItemRepository();
+        int loaded = ItemSnapshot.load(path, target);
+
+        //then
+        assertThat(written).isEqualTo(3);
+        assertThat(loaded).isEqualTo(3);
+        assertThat(target.findAll()).isEqualTo(source.findAll());
+        assertThat(target.findById(itemB.getId()).getVersion()).isEqualTo(2L);
+        assertThat(target.save(new Item("itemD", 10000, 10)).getId()).isEqualTo(4L);
+    }
+
+    @Test
+    void rejectCorruptedFile() throws IOException {
+        //given
+        ItemRepository source = new MemoryItemRepository();
+        source.save(new Item("itemA", 10000, 10));
+        Path path = dir.resolve("items.snapshot");
+        ItemSnapshot.write(source, path);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F}), 12);
+        }
+
+        //when then
+        assertThatThrownBy(() -> ItemSnapshot.load(path, new MemoryItemRepository()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * 많은 건수 왕복 (크기와 복구 시간은 jmh ItemSnapshotBenchmark)
+     */
+    @Test
+    void coldStart() throws IOException {
+        int count = 100_000;
+        ItemRepository source = new ColumnarItemRepository();
+        for (int i = 0; i < count; i++) {
+            source.save(new Item("item" + (i % 1000), 1000 + i % 100_000, i % 9999));
+        }
+        Path path = dir.resolve("items.snapshot");
+        ItemSnapshot.write(source, path);
+
+        ItemRepository target = new ColumnarItemRepository();
+        int loaded = ItemSnapshot.load(path, target);
+
+        assertThat(loaded).isEqualTo(count);
+        assertThat(target.stats()).isEqualTo(source.stats());
+        assertThat(target.findById((long) count)).isEqualTo(source.findById((long) count));
+    }
+}
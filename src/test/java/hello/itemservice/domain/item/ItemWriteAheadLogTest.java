@@ -0,0 +1,309 @@
+package hello.itemservice.domain.item;
+
+import hello.itemservice.domain.item.ItemWriteAheadLog.FsyncPolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ItemWriteAheadLogTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replay() {
+        //given
+        Path path = dir.resolve("items.wal");
+        try (JournaledItemRepository repository = journaled(path, FsyncPolicy.ALWAYS)) {
+            Item itemA = repository.save(new Item("itemA", 10000, 10));
+            repository.save(new Item("itemB", 20000, 20));
+            repository.update(itemA.getId(), new Item("itemA2", 30000, 30));
+        }
+
+        //when 재시작
+        try (JournaledItemRepository repository = journaled(path, FsyncPolicy.ALWAYS)) {
+
+            //then
+            assertThat(repository.findAll()).hasSize(2);
+            Item itemA = repository.findById(1L);
+            assertThat(itemA.getItemName()).isEqualTo("itemA2");
+            assertThat(itemA.getPrice()).isEqualTo(30000);
+            assertThat(itemA.getVersion()).isEqualTo(2L);
+
+            // 복구 후 새로 저장하면 이어지는 id
+            assertThat(repository.save(new Item("itemC", 10000, 10)).getId()).isEqualTo(3L);
+        }
+    }
+
+    @Test
+    void truncateTornTail() throws IOException {
+        //given 마지막 레코드를 쓰다가 종료된 상황
+        Path path = dir.resolve("items.wal");
+        try (JournaledItemRepository repository = journaled(path, FsyncPolicy.ALWAYS)) {
+            repository.save(new Item("itemA", 10000, 10));
+            repository.save(new Item("itemB", 20000, 20));
+        }
+        long size = Files.size(path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 3);
+        }
+
+        //when
+        try (JournaledItemRepository repository = journaled(path, FsyncPolicy.ALWAYS)) {
+
+            //then 온전한 레코드까지만 복구하고, 이후 기록은 정상적으로 이어짐
+            assertThat(repository.findAll()).extracting(Item::getItemName).containsExactly("itemA");
+            repository.save(new Item("itemC", 10000, 10));
+        }
+        try (JournaledItemRepository repository = journaled(path, FsyncPolicy.ALWAYS)) {
+            assertThat(repository.findAll()).extracting(Item::getItemName).containsExactly("itemA", "itemC");
+        }
+    }
+
+    @Test
+    void concurrentWritesReplayByFsyncPolicy() throws Exception {
+        int threadCount = 8;
+        int savePerThread = 500;
+
+        for (FsyncPolicy policy : FsyncPolicy.values()) {
+            //given 저장과 같은 상품 수정이 동시에
+            Path path = dir.resolve(policy + ".wal");
+            List<Item> expected;
+            try (JournaledItemRepository repository = journaled(path, policy)) {
+                Item shared = repository.save(new Item("shared", 10000, 10));
+                ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threadCount; t++) {
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < savePerThread; i++) {
+                            repository.save(new Item("item", 10000, 10));
+                            repository.update(shared.getId(), new Item("shared", 10000 + i, 10));
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+                executor.shutdown();
+                expected = repository.findAll();
+            }
+
+            //when 재시작
+            try (JournaledItemRepository repository = journaled(path, policy)) {
+
+                //then 수정 버전이 겹치지 않고, 재생 결과 = 종료 전 상태
+                assertThat(expected).hasSize(1 + threadCount * savePerThread);
+                assertThat(repository.findById(1L).getVersion()).isEqualTo(1L + threadCount * savePerThread);
+                assertThat(repository.findAll()).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void failedAppendDoesNotApply() {
+        //given 로그 기록이 실패하는 상황
+        Path path = dir.resolve("items.wal");
+        MemoryItemRepository delegate = new MemoryItemRepository();
+        ItemWriteAheadLog wal = new ItemWriteAheadLog(path, FsyncPolicy.ALWAYS, 64, 10);
+        JournaledItemRepository repository = new JournaledItemRepository(delegate, wal, new SequenceIdGenerator());
+        Item saved = repository.save(new Item("itemA", 10000, 10));
+        wal.close();
+
+        //when
+        assertThatThrownBy(() -> repository.save(new Item("itemB", 20000, 20)))
+                .isInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(() -> repository.update(saved.getId(), new Item("itemA2", 30000, 30)))
+                .isInstanceOf(UncheckedIOException.class);
+
+        //then 로그에 없는 변경은 저장소에도 없음
+        assertThat(delegate.findAll()).containsExactly(saved);
+    }
+
+    @Test
+    void tornWriteIsRolledBack() throws IOException {
+        //given 다음 기록은 앞부분만 쓰고 실패
+        Path path = dir.resolve("items.wal");
+        TornWriteChannel channel = new TornWriteChannel(path);
+        try (ItemWriteAheadLog wal = new ItemWriteAheadLog(channel, FsyncPolicy.ALWAYS, 64, 10)) {
+            wal.append(ItemWriteAheadLog.SAVE, item(1L, "itemA"));
+            channel.tearNextWrite = true;
+
+            //when
+            assertThatThrownBy(() -> wal.append(ItemWriteAheadLog.SAVE, item(2L, "itemB")))
+                    .isInstanceOf(UncheckedIOException.class);
+            wal.appendAll(ItemWriteAheadLog.SAVE, List.of(item(3L, "itemC"), item(4L, "itemD")));
+        }
+
+        //then 실패한 기록 뒤의 정상 기록도 모두 복구
+        List<Item> replayed = new ArrayList<>();
+        try (ItemWriteAheadLog wal = new ItemWriteAheadLog(path, FsyncPolicy.ALWAYS, 64, 10)) {
+            wal.replay(replayed::add);
+        }
+        assertThat(replayed).extracting(Item::getItemName).containsExactly("itemA", "itemC", "itemD");
+    }
+
+    @Test
+    void batchSyncsWithinInterval() throws InterruptedException {
+        //given 건수가 batchSize 에 한참 못 미침
+        Path path = dir.resolve("items.wal");
+        try (ItemWriteAheadLog wal = new ItemWriteAheadLog(path, FsyncPolicy.BATCH, 1000, 10)) {
+            Item item = new Item("itemA", 10000, 10);
+            item.setId(1L);
+            item.setVersion(1L);
+
+            //when
+            wal.append(ItemWriteAheadLog.SAVE, item);
+
+            //then
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (wal.unsynced() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(wal.unsynced()).isZero();
+        }
+    }
+
+    private static Item item(Long id, String itemName) {
+        Item item = new Item(itemName, 10000, 10);
+        item.setId(id);
+        item.setVersion(1L);
+        return item;
+    }
+
+    private JournaledItemRepository journaled(Path path, FsyncPolicy policy) {
+        IdGenerator ids = new SequenceIdGenerator();
+        MemoryItemRepository repository = new MemoryItemRepository(ids);
+        ItemWriteAheadLog wal = new ItemWriteAheadLog(path, policy, 64, 10);
+        wal.replay(repository::restore);
+        return new JournaledItemRepository(repository, wal, ids);
+    }
+
+    /**
+     * tearNextWrite 이면 다음 write 는 몇 바이트만 쓰고 실패 (디스크가 가득 찬 경우처럼)
+     */
+    static class TornWriteChannel extends FileChannel {
+
+        final FileChannel delegate;
+        boolean tearNextWrite;
+
+        TornWriteChannel(Path path) throws IOException {
+            delegate = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if (tearNextWrite) {
+                tearNextWrite = false;
+                ByteBuffer head = src.duplicate();
+                head.limit(head.position() + Math.min(5, head.remaining()));
+                delegate.write(head);
+                throw new IOException("No space left on device");
+            }
+            return delegate.write(src);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            long total = 0;
+            for (int i = offset; i < offset + length; i++) {
+                total += write(srcs[i]);
+            }
+            return total;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            delegate.force(metaData);
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return delegate.write(src, position);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package hello.itemservice.domain.item;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JdbcItemRepositoryTest {
+
+    // 테스트 클래스 안에서는 같은 내장 DB, 한 번에 3건씩 읽도록 해서 keyset 페이지 경계를 지나가게
+    DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:item-test;DB_CLOSE_DELAY=-1", "sa", "");
+    JdbcItemRepository itemRepository = new JdbcItemRepository(dataSource, new SequenceIdGenerator(), 2, 3);
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.clearStore();
+    }
+
+    @Test
+    void save() {
+        //given
+        Item item = new Item("itemA", 10000, 10);
+
+        //when
+        Item savedItem = itemRepository.save(item);
+
+        //then
+        Item findItem = itemRepository.findById(item.getId());
+        assertThat(findItem).isEqualTo(savedItem);
+        assertThat(findItem.getVersion()).isEqualTo(1L);
+        assertThat(itemRepository.findById(-1L)).isNull();
+    }
+
+    @Test
+    void saveAllAndFindAllAcrossPages() {
+        //given batchSize(2), pageSize(3) 보다 많이, null 컬럼 포함
+        List<Item> items = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            items.add(new Item("item" + i, i == 5 ? null : 1000 * i, i == 7 ? null : i));
+        }
+
+        //when
+        List<Item> saved = itemRepository.saveAll(items);
+        List<Item> result = itemRepository.findAll();
+
+        //then
+        assertThat(result).containsExactlyElementsOf(saved);
+        assertThat(result.get(4).getPrice()).isNull();
+        assertThat(result.get(6).getQuantity()).isNull();
+    }
+
+    @Test
+    void findPage() {
+        //given
+        itemRepository.saveAll(List.of(new Item("item1", 10000, 10), new Item("item2", 10000, 10),
+                new Item("item3", 10000, 10), new Item("item4", 10000, 10), new Item("item5", 10000, 10)));
+
+        //when
+        List<Item> first = itemRepository.findPage(null, 2);
+        List<Item> second = itemRepository.findPage(first.get(1).getId(), 2);
+        List<Item> last = itemRepository.findPage(second.get(1).getId(), 2);
+
+        //then
+        assertThat(first).extracting(Item::getItemName).containsExactly("item1", "item2");
+        assertThat(second).extracting(Item::getItemName).containsExactly("item3", "item4");
+        assertThat(last).extracting(Item::getItemName).containsExactly("item5");
+    }
+
+    @Test
+    void updateItem() {
+        //given
+        Item savedItem = itemRepository.save(new Item("item1", 10000, 10));
+        long version = itemRepository.catalogVersion();
+
+        //when
+        itemRepository.update(savedItem.getId(), new Item("item2", 20000, 30));
+        itemRepository.update(-1L, new Item("none", 1000, 1));
+
+        //then 없는 상품 수정은 목록 버전을 올리지 않음
+        Item findItem = itemRepository.findById(savedItem.getId());
+        assertThat(findItem.getItemName()).isEqualTo("item2");
+        assertThat(findItem.getPrice()).isEqualTo(20000);
+        assertThat(findItem.getQuantity()).isEqualTo(30);
+        assertThat(findItem.getVersion()).isEqualTo(2L);
+        assertThat(itemRepository.catalogVersion()).isEqualTo(version + 1);
+    }
+
+    @Test
+    void restoreKeepsNewerVersion() {
+        //given
+        Item newer = new Item("newer", 20000, 20);
+        newer.setId(100L);
+        newer.setVersion(3L);
+        Item older = new Item("older", 10000, 10);
+        older.setId(100L);
+        older.setVersion(2L);
+
+        //when
+        itemRepository.restoreAll(List.of(newer, older));
+        Item next = itemRepository.save(new Item("next", 10000, 10));
+
+        //then 복구된 id 뒤부터 발급
+        assertThat(itemRepository.findById(100L).getItemName()).isEqualTo("newer");
+        assertThat(itemRepository.findById(100L).getVersion()).isEqualTo(3L);
+        assertThat(next.getId()).isGreaterThan(100L);
+    }
+
+    @Test
+    void concurrentRestoreKeepsNewestVersion() throws Exception {
+        //given 여러 인스턴스가 같은 id 들을 서로 다른 버전으로 동시에 복구 (없는 id 를 동시에 insert)
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<Future<?>> futures = new ArrayList<>();
+
+        //when
+        for (int t = 0; t < threadCount; t++) {
+            long version = t + 1;
+            JdbcItemRepository instance = new JdbcItemRepository(dataSource);
+            futures.add(executor.submit(() -> {
+                List<Item> items = new ArrayList<>();
+                for (long id = 1000; id < 1100; id++) {
+                    Item item = new Item("v" + version, 10000, 10);
+                    item.setId(id);
+                    item.setVersion(version);
+                    items.add(item);
+                }
+                instance.restoreAll(items);
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        //then
+        assertThat(itemRepository.findAll()).hasSize(100)
+                .allSatisfy(item -> assertThat(item.getVersion()).isEqualTo((long) threadCount));
+    }
+
+    @Test
+    void restartContinuesAfterStoredIds() {
+        //given
+        Item saved = itemRepository.save(new Item("item1", 10000, 10));
+
+        //when 같은 DB 로 다시 시작
+        JdbcItemRepository restarted = new JdbcItemRepository(dataSource);
+        Item next = restarted.save(new Item("item2", 10000, 10));
+
+        //then
+        assertThat(next.getId()).isGreaterThan(saved.getId());
+        assertThat(restarted.findAll()).extracting(Item::getItemName).containsExactly("item1", "item2");
+    }
+
+    @Test
+    void sameResultsAsMemory() {
+        //given 같은 데이터를 두 저장소에
+        MemoryItemRepository memory = new MemoryItemRepository();
+        Random random = new Random(1);
+        for (int i = 0; i < 200; i++) {
+            Item item = new Item("item" + random.nextInt(20), 1000 + random.nextInt(100) * 100, random.nextInt(100));
+            memory.save(new Item(item.getItemName(), item.getPrice(), item.getQuantity()));
+            itemRepository.save(item);
+        }
+        memory.update(7L, new Item("item3", 5000, 0));
+        itemRepository.update(7L, new Item("item3", 5000, 0));
+
+        //then
+        assertThat(itemRepository.findAll()).isEqualTo(memory.findAll());
+        assertThat(itemRepository.findByItemName("item3")).isEqualTo(memory.findByItemName("item3"));
+        assertThat(itemRepository.findByPriceBetween(3000, 6000, 10)).isEqualTo(memory.findByPriceBetween(3000, 6000, 10));
+        assertThat(itemRepository.findByQuantityBetween(10, 20, 10)).isEqualTo(memory.findByQuantityBetween(10, 20, 10));
+        assertThat(itemRepository.stats()).isEqualTo(memory.stats());
+    }
+}
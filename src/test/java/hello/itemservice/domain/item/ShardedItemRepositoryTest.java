@@ -0,0 +1,159 @@
+package hello.itemservice.domain.item;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ShardedItemRepositoryTest {
+
+    ShardedItemRepository itemRepository = new ShardedItemRepository(4);
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.clearStore();
+    }
+
+    @Test
+    void save() {
+        //given
+        Item item = new Item("itemA", 10000, 10);
+
+        //when
+        Item savedItem = itemRepository.save(item);
+
+        //then
+        Item findItem = itemRepository.findById(item.getId());
+        assertThat(findItem).isEqualTo(savedItem);
+    }
+
+    @Test
+    void findAllInIdOrder() {
+        //given 샤드 수보다 많이
+        List<Item> saved = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            saved.add(itemRepository.save(new Item("item" + i, 10000, 10)));
+        }
+
+        //when
+        List<Item> result = itemRepository.findAll();
+
+        //then
+        assertThat(result).containsExactlyElementsOf(saved);
+    }
+
+    @Test
+    void findPage() {
+        //given
+        itemRepository.saveAll(List.of(new Item("item1", 10000, 10), new Item("item2", 10000, 10),
+                new Item("item3", 10000, 10), new Item("item4", 10000, 10), new Item("item5", 10000, 10)));
+
+        //when
+        List<Item> first = itemRepository.findPage(null, 2);
+        List<Item> second = itemRepository.findPage(first.get(1).getId(), 2);
+        List<Item> last = itemRepository.findPage(second.get(1).getId(), 2);
+
+        //then
+        assertThat(first).extracting(Item::getItemName).containsExactly("item1", "item2");
+        assertThat(second).extracting(Item::getItemName).containsExactly("item3", "item4");
+        assertThat(last).extracting(Item::getItemName).containsExactly("item5");
+    }
+
+    @Test
+    void updateItem() {
+        //given
+        Item savedItem = itemRepository.save(new Item("item1", 10000, 10));
+        long version = itemRepository.catalogVersion();
+
+        //when
+        itemRepository.update(savedItem.getId(), new Item("item2", 20000, 30));
+        itemRepository.update(-1L, new Item("none", 1000, 1));
+
+        //then
+        Item findItem = itemRepository.findById(savedItem.getId());
+        assertThat(findItem.getItemName()).isEqualTo("item2");
+        assertThat(findItem.getVersion()).isEqualTo(2L);
+        assertThat(itemRepository.catalogVersion()).isEqualTo(version + 1);
+    }
+
+    @Test
+    void sameResultsAsMemory() {
+        //given 같은 데이터를 한 덩어리 저장소와 샤드 저장소에
+        ItemRepository memory = new MemoryItemRepository();
+        Random random = new Random(1);
+        for (int i = 0; i < 1000; i++) {
+            int price = 1000 + random.nextInt(100) * 100;
+            int quantity = random.nextInt(50);
+            String name = "item" + random.nextInt(30);
+            memory.save(new Item(name, price, quantity));
+            itemRepository.save(new Item(name, price, quantity));
+        }
+        for (long id = 1; id <= 1000; id += 7) {
+            memory.update(id, new Item("updated", 5000, 5));
+            itemRepository.update(id, new Item("updated", 5000, 5));
+        }
+
+        //when //then
+        assertThat(itemRepository.findAll()).isEqualTo(memory.findAll());
+        assertThat(itemRepository.findPage(500L, 20)).isEqualTo(memory.findPage(500L, 20));
+        assertThat(itemRepository.findByItemName("updated")).isEqualTo(memory.findByItemName("updated"));
+        assertThat(itemRepository.findByPriceBetween(3000, 6000, 50)).isEqualTo(memory.findByPriceBetween(3000, 6000, 50));
+        assertThat(itemRepository.findByQuantityBetween(10, 20, 50)).isEqualTo(memory.findByQuantityBetween(10, 20, 50));
+        assertThat(itemRepository.stats()).isEqualTo(memory.stats());
+    }
+
+    @Test
+    void restoreKeepsSequence() {
+        //given
+        Item item = new Item("restored", 10000, 10);
+        item.setId(100L);
+        item.setVersion(3L);
+
+        //when
+        itemRepository.restore(item);
+        Item saved = itemRepository.save(new Item("next", 10000, 10));
+
+        //then 복구된 id 다음부터 발급
+        assertThat(itemRepository.findById(100L).getVersion()).isEqualTo(3L);
+        assertThat(saved.getId()).isEqualTo(101L);
+    }
+
+    @Test
+    void saveConcurrently() throws Exception {
+        //given
+        int threads = 8;
+        int perThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        //when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    itemRepository.save(new Item("item", 10000, 10));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        //then id 중복/유실 없이 id 순
+        List<Item> result = itemRepository.findAll();
+        assertThat(result).hasSize(threads * perThread);
+        assertThat(result).extracting(Item::getId).isSorted().doesNotHaveDuplicates();
+    }
+}
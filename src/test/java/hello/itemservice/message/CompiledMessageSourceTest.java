@@ -0,0 +1,138 @@
+package hello.itemservice.message;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.validation.DefaultMessageCodesResolver;
+import org.springframework.validation.FieldError;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 스프링 부트 기본(ResourceBundleMessageSource)과 같은 결과를 내는지 비교
+ * 시스템 locale 에 따라 결과가 달라지므로 테스트 동안 en_US 로 고정 (기본 파일은 한국어)
+ */
+class CompiledMessageSourceTest {
+
+    String[] basenames = {"messages", "errors"};
+    Locale systemLocale;
+    CompiledMessageSource compiled;
+    ResourceBundleMessageSource resourceBundle;
+
+    @BeforeEach
+    void beforeEach() {
+        systemLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+        compiled = new CompiledMessageSource(basenames, StandardCharsets.UTF_8, true);
+        resourceBundle = resourceBundle();
+    }
+
+    @AfterEach
+    void afterEach() {
+        Locale.setDefault(systemLocale);
+    }
+
+    Locale[] locales = {null, Locale.KOREA, Locale.KOREAN, Locale.ENGLISH, Locale.US, Locale.FRANCE, Locale.ROOT};
+    Object[][] argsList = {
+            null,
+            {},
+            {1000, 1000000},
+            {"Spring"},
+            {10000, 1234567L, 3},
+            {new DefaultMessageSourceResolvable(new String[]{"label.item.price", "price"}, "가격"), 9999, 1000}
+    };
+
+    @Test
+    void sameAsResourceBundle() throws IOException {
+        for (String code : allCodes()) {
+            for (Locale locale : locales) {
+                for (Object[] args : argsList) {
+                    assertThat(compiled.getMessage(code, args, locale))
+                            .as("code=%s locale=%s", code, locale)
+                            .isEqualTo(resourceBundle.getMessage(code, args, locale));
+                }
+            }
+        }
+    }
+
+    @Test
+    void fieldErrorFallback() {
+        DefaultMessageCodesResolver codesResolver = new DefaultMessageCodesResolver();
+        List<MessageSourceResolvable> errors = new ArrayList<>();
+        errors.add(new FieldError("item", "itemName", "", false,
+                codesResolver.resolveMessageCodes("required", "item", "itemName", String.class), null, null));
+        errors.add(new FieldError("item", "price", 10, false,
+                codesResolver.resolveMessageCodes("range", "item", "price", Integer.class), new Object[]{1000, 1000000}, null));
+        errors.add(new FieldError("item", "quantity", 10000, false,
+                codesResolver.resolveMessageCodes("max", "item", "quantity", Integer.class), new Object[]{9999}, null));
+        errors.add(new FieldError("item", "price", "abc", true,
+                codesResolver.resolveMessageCodes("typeMismatch", "item", "price", Integer.class), null, "기본 메시지"));
+
+        for (MessageSourceResolvable error : errors) {
+            for (Locale locale : locales) {
+                assertThat(compiled.getMessage(error, locale == null ? Locale.getDefault() : locale))
+                        .isEqualTo(resourceBundle.getMessage(error, locale == null ? Locale.getDefault() : locale));
+            }
+        }
+        assertThat(compiled.getMessage(errors.get(1), Locale.KOREA)).isEqualTo("가격은 1,000 ~ 1,000,000 까지 허용함니돠.");
+    }
+
+    @Test
+    void unknownLocalesDoNotGrowCatalogs() {
+        //given
+        int before = compiled.catalogCount();
+
+        //when Accept-Language 로 들어올 수 있는 아무 locale
+        for (int i = 0; i < 1000; i++) {
+            Locale locale = new Locale("x" + i, "Y" + i);
+            assertThat(compiled.getMessage("range.price", new Object[]{1000, 1000000}, locale))
+                    .isEqualTo(resourceBundle.getMessage("range.price", new Object[]{1000, 1000000}, locale));
+        }
+
+        //then 메시지 파일이 없는 locale 은 다른 맵을 그대로 씀
+        assertThat(compiled.catalogCount()).isEqualTo(before);
+        // 숫자 형식은 요청 locale 그대로 (1.000)
+        assertThat(compiled.getMessage("range.price", new Object[]{1000, 1000000}, Locale.GERMANY))
+                .isEqualTo(resourceBundle.getMessage("range.price", new Object[]{1000, 1000000}, Locale.GERMANY))
+                .contains("1.000");
+    }
+
+    @Test
+    void notFoundMessageCode() {
+        assertThat(compiled.getMessage("no_code", null, "기본 메시지", Locale.KOREA)).isEqualTo("기본 메시지");
+        assertThatThrownBy(() -> compiled.getMessage("no_code", null, Locale.KOREA))
+                .isInstanceOf(org.springframework.context.NoSuchMessageException.class);
+    }
+
+    private ResourceBundleMessageSource resourceBundle() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasenames(basenames);
+        messageSource.setDefaultEncoding("UTF-8");
+        return messageSource;
+    }
+
+    private TreeSet<String> allCodes() throws IOException {
+        TreeSet<String> codes = new TreeSet<>();
+        for (String file : new String[]{"messages.properties", "messages_en.properties", "errors.properties"}) {
+            try (InputStream stream = getClass().getClassLoader().getResourceAsStream(file)) {
+                Properties properties = new Properties();
+                properties.load(new InputStreamReader(stream, StandardCharsets.UTF_8));
+                codes.addAll(properties.stringPropertyNames());
+            }
+        }
+        return codes;
+    }
+}
@@ -0,0 +1,58 @@
+package hello.itemservice.validation;
+
+import hello.itemservice.web.validation.CachingMessageCodesResolver;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.DefaultMessageCodesResolver;
+import org.springframework.validation.MessageCodesResolver;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CachingMessageCodesResolverTest {
+
+    MessageCodesResolver defaultResolver = new DefaultMessageCodesResolver();
+
+    @Test
+    void sameCodesAsDefault() {
+        CachingMessageCodesResolver codesResolver = new CachingMessageCodesResolver(100);
+
+        assertThat(codesResolver.resolveMessageCodes("required", "item", "itemName", String.class))
+                .containsExactly(defaultResolver.resolveMessageCodes("required", "item", "itemName", String.class));
+        assertThat(codesResolver.resolveMessageCodes("totalPriceMin", "item"))
+                .containsExactly(defaultResolver.resolveMessageCodes("totalPriceMin", "item"));
+        // 필드 타입을 모르는 경우
+        assertThat(codesResolver.resolveMessageCodes("typeMismatch", "item", "price", null))
+                .containsExactly(defaultResolver.resolveMessageCodes("typeMismatch", "item", "price", null));
+    }
+
+    @Test
+    void reuseCodes() {
+        //given
+        CachingMessageCodesResolver codesResolver = new CachingMessageCodesResolver(100);
+
+        //when
+        String[] first = codesResolver.resolveMessageCodes("range", "item", "price", Integer.class);
+        String[] second = codesResolver.resolveMessageCodes("range", "item", "price", Integer.class);
+        String[] otherType = codesResolver.resolveMessageCodes("range", "item", "price", Long.class);
+
+        //then
+        assertThat(second).isSameAs(first);
+        assertThat(otherType).isNotSameAs(first).contains("range.java.lang.Long");
+        assertThat(codesResolver.getHitCount()).isEqualTo(1);
+        assertThat(codesResolver.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void bounded() {
+        //given
+        CachingMessageCodesResolver codesResolver = new CachingMessageCodesResolver(10);
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            codesResolver.resolveMessageCodes("required", "item" + i);
+        }
+
+        //then 넘친 것도 결과는 정상
+        assertThat(codesResolver.size()).isEqualTo(10);
+        assertThat(codesResolver.resolveMessageCodes("required", "item99")).containsExactly("required.item99", "required");
+    }
+}
@@ -0,0 +1,123 @@
+package hello.itemservice.validation;
+
+import hello.itemservice.config.FastBindingConfig;
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.web.validation.FastModelAttributeMethodProcessor;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemUpdateForm;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.support.ConfigurableWebBindingInitializer;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ServletModelAttributeMethodProcessor;
+import org.springframework.web.servlet.mvc.method.annotation.ServletRequestDataBinderFactory;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * FormBinder 로 바인딩한 결과가 기존 WebDataBinder 와 같은지 비교
+ */
+class FormBinderTest {
+
+    HandlerMethodArgumentResolver stock = new ServletModelAttributeMethodProcessor(false);
+    HandlerMethodArgumentResolver fast = new FastModelAttributeMethodProcessor(FastBindingConfig.formBinders());
+
+    @Test
+    void sameAsWebDataBinder() throws Exception {
+        List<Map<String, String>> requests = List.of(
+                Map.of("itemName", "itemA", "price", "10000", "quantity", "10"),
+                Map.of("itemName", "", "price", "abc", "quantity", "10.5"),
+                Map.of("price", "", "quantity", " "),
+                Map.of("price", " 1 000 ", "quantity", "0x10", "id", "#7"),
+                Map.of("price", "99999999999", "version", "3", "unknown", "x"),
+                Map.of("_itemName", "on", "price", "abc")); // 체크박스 마커는 기존 바인더로
+
+        for (int index = 0; index < 3; index++) {
+            for (Map<String, String> params : requests) {
+                //when
+                BindingResult expected = resolve(stock, index, params);
+                BindingResult actual = resolve(fast, index, params);
+
+                //then
+                assertThat(fast.supportsParameter(parameter(index))).isTrue();
+                assertSameResult(actual, expected);
+            }
+        }
+    }
+
+    @Test
+    void uriVariables() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/items/5/edit");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", "5", "itemName", "path"));
+        request.addParameter("itemName", "itemA");
+
+        //when
+        BindingResult actual = resolve(fast, 2, request);
+        BindingResult expected = resolve(stock, 2, copy(request));
+
+        //then 파라미터가 우선, 없는 것만 경로 변수로
+        assertSameResult(actual, expected);
+        assertThat(((ItemUpdateForm) actual.getTarget()).getId()).isEqualTo(5L);
+        assertThat(((ItemUpdateForm) actual.getTarget()).getItemName()).isEqualTo("itemA");
+    }
+
+    private static void assertSameResult(BindingResult actual, BindingResult expected) {
+        assertThat(actual.getTarget()).isEqualTo(expected.getTarget());
+        assertThat(actual.getFieldErrors()).hasSameSizeAs(expected.getFieldErrors());
+        for (int i = 0; i < expected.getFieldErrors().size(); i++) {
+            FieldError a = actual.getFieldErrors().get(i);
+            FieldError e = expected.getFieldErrors().get(i);
+            assertThat(a.getField()).isEqualTo(e.getField());
+            assertThat(a.getCodes()).containsExactly(e.getCodes());
+            assertThat(a.getArguments()).containsExactly(e.getArguments());
+            assertThat(a.getRejectedValue()).isEqualTo(e.getRejectedValue());
+            assertThat(a.isBindingFailure()).isEqualTo(e.isBindingFailure());
+        }
+    }
+
+    private BindingResult resolve(HandlerMethodArgumentResolver resolver, int index, Map<String, String> params) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/items/add");
+        params.forEach(request::addParameter);
+        return resolve(resolver, index, request);
+    }
+
+    private BindingResult resolve(HandlerMethodArgumentResolver resolver, int index, MockHttpServletRequest request) throws Exception {
+        ConfigurableWebBindingInitializer initializer = new ConfigurableWebBindingInitializer();
+        initializer.setConversionService(new DefaultFormattingConversionService());
+        ModelAndViewContainer mavContainer = new ModelAndViewContainer();
+        resolver.resolveArgument(parameter(index), mavContainer, new ServletWebRequest(request),
+                new ServletRequestDataBinderFactory(null, initializer));
+        return (BindingResult) mavContainer.getModel().get(BindingResult.MODEL_KEY_PREFIX + "item");
+    }
+
+    private static MockHttpServletRequest copy(MockHttpServletRequest source) {
+        MockHttpServletRequest request = new MockHttpServletRequest(source.getMethod(), source.getRequestURI());
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE,
+                source.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE));
+        request.setParameters(source.getParameterMap());
+        return request;
+    }
+
+    private static MethodParameter parameter(int index) throws NoSuchMethodException {
+        return new MethodParameter(FormBinderTest.class.getDeclaredMethod("handle", Item.class, BindingResult.class,
+                ItemSaveForm.class, BindingResult.class, ItemUpdateForm.class, BindingResult.class), index * 2);
+    }
+
+    @SuppressWarnings("unused")
+    private void handle(@ModelAttribute("item") Item item, BindingResult itemResult,
+                        @ModelAttribute("item") ItemSaveForm saveForm, BindingResult saveResult,
+                        @ModelAttribute("item") ItemUpdateForm updateForm, BindingResult updateResult) {
+    }
+}
@@ -0,0 +1,77 @@
+package hello.itemservice.validation;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.web.validation.ItemValidator;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ItemValidatorTest {
+
+    ItemValidator itemValidator = new ItemValidator();
+
+    @Test
+    void validate() {
+        //given
+        Item item = new Item("", 10, 10);
+        BindingResult bindingResult = new BeanPropertyBindingResult(item, "item");
+
+        //when
+        itemValidator.validate(item, bindingResult);
+
+        //then
+        assertThat(bindingResult.getFieldError("itemName").getCode()).isEqualTo("required");
+        FieldError price = bindingResult.getFieldError("price");
+        assertThat(price.getCode()).isEqualTo("range");
+        assertThat(price.getArguments()).containsExactly(1000, 1000000); // ItemSaveForm 의 @Range
+        assertThat(bindingResult.getGlobalError().getArguments()).containsExactly(10000, 100L);
+    }
+
+    @Test
+    void totalPriceOverflow() {
+        //given 가격 * 수량이 int 범위를 넘는 경우
+        Item item = new Item("itemA", 1000000, 9999);
+        BindingResult bindingResult = new BeanPropertyBindingResult(item, "item");
+        Item tooMany = new Item("itemB", 1000000, 10000);
+        BindingResult tooManyResult = new BeanPropertyBindingResult(tooMany, "item");
+
+        //when
+        itemValidator.validate(item, bindingResult);
+        itemValidator.validate(tooMany, tooManyResult);
+
+        //then
+        assertThat(bindingResult.hasErrors()).isFalse();
+        assertThat(tooManyResult.getFieldError("quantity").getArguments()).containsExactly(9999);
+        assertThat(tooManyResult.getGlobalErrorCount()).isZero();
+    }
+
+    /**
+     * 통과하는 경우 호출당 할당량
+     */
+    @Test
+    void noAllocationOnSuccess() {
+        Item item = new Item("itemA", 10000, 10);
+        Errors errors = new BeanPropertyBindingResult(item, "item");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        int count = 1_000_000;
+        for (int i = 0; i < count; i++) {
+            itemValidator.validate(item, errors);
+        }
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < count; i++) {
+            itemValidator.validate(item, errors);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertThat(errors.hasErrors()).isFalse();
+        assertThat(allocated / count).isZero();
+    }
+}
@@ -0,0 +1,79 @@
+package hello.itemservice.validation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ValidationMetricsTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    MeterRegistry registry;
+
+    @Test
+    void formRejections() throws Exception {
+        //given
+        String uri = "/validation/v4/items/add";
+        double range = rejected(uri, "price", "Range");
+        double totalPriceMin = rejected(uri, "none", "totalPriceMin");
+        long bindings = bindingCount(uri);
+
+        //when
+        mockMvc.perform(post(uri).param("itemName", "itemA").param("price", "10").param("quantity", "10"))
+                .andExpect(status().isOk());
+
+        //then 컨트롤러에서 추가한 totalPriceMin 까지 집계
+        assertThat(rejected(uri, "price", "Range")).isEqualTo(range + 1);
+        assertThat(rejected(uri, "none", "totalPriceMin")).isEqualTo(totalPriceMin + 1);
+        assertThat(bindingCount(uri)).isEqualTo(bindings + 1);
+    }
+
+    @Test
+    void typeMismatch() throws Exception {
+        //given
+        String formUri = "/validation/v2/items/add";
+        String apiUri = "/validation/api/items/add";
+        double form = typeMismatch(formUri, "price");
+        double api = typeMismatch(apiUri, "price");
+
+        //when
+        mockMvc.perform(post(formUri).param("itemName", "itemA").param("price", "abc").param("quantity", "10"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post(apiUri).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"itemName\":\"itemA\",\"price\":\"abc\",\"quantity\":10}"))
+                .andExpect(status().isBadRequest());
+
+        //then
+        assertThat(typeMismatch(formUri, "price")).isEqualTo(form + 1);
+        assertThat(typeMismatch(apiUri, "price")).isEqualTo(api + 1);
+    }
+
+    private double rejected(String uri, String field, String code) {
+        Counter counter = registry.find("item.validation.rejected").tags("uri", uri, "field", field, "code", code).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private double typeMismatch(String uri, String field) {
+        Counter counter = registry.find("item.validation.type.mismatch").tags("uri", uri, "field", field).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private long bindingCount(String uri) {
+        Timer timer = registry.find("item.validation.binding").tag("uri", uri).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
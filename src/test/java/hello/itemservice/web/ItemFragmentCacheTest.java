@@ -0,0 +1,128 @@
+package hello.itemservice.web;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.web.validation.ItemFragmentCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ItemFragmentCacheTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Autowired
+    ItemFragmentCache fragmentCache;
+
+    @Autowired
+    SpringTemplateEngine templateEngine;
+
+    @Autowired
+    ApplicationContext applicationContext;
+
+    @AfterEach
+    void afterEach() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void detailFromCache() throws Exception {
+        //given
+        Item item = itemRepository.save(new Item("itemA", 10000, 10));
+        String url = "/validation/v1/items/" + item.getId();
+        String first = page(url);
+        long hits = fragmentCache.getHitCount();
+
+        //when
+        String second = page(url);
+
+        //then
+        assertThat(fragmentCache.getHitCount()).isEqualTo(hits + 1);
+        assertThat(second).isEqualTo(first);
+        assertThat(first).contains("value=\"itemA\"", "/validation/v1/items/" + item.getId() + "/edit");
+    }
+
+    @Test
+    void updatedItemIsRenderedAgain() throws Exception {
+        //given
+        Item item = itemRepository.save(new Item("itemA", 10000, 10));
+        String url = "/validation/v2/items/" + item.getId();
+        page(url);
+        long misses = fragmentCache.getMissCount();
+
+        //when
+        itemRepository.update(item.getId(), new Item("itemB", 20000, 20));
+        String updated = page(url);
+
+        //then 수정된 상품만 다시 렌더링
+        assertThat(fragmentCache.getMissCount()).isEqualTo(misses + 1);
+        assertThat(updated).contains("value=\"itemB\"").doesNotContain("value=\"itemA\"");
+    }
+
+    @Test
+    void listRowsAndLocale() throws Exception {
+        //given
+        itemRepository.save(new Item("itemA", 10000, 10));
+        itemRepository.save(new Item("itemB", 20000, 20));
+        String first = page("/validation/v3/items");
+        long hits = fragmentCache.getHitCount();
+
+        //when
+        String second = page("/validation/v3/items");
+        String english = mockMvc.perform(get("/validation/v3/items").header(HttpHeaders.ACCEPT_LANGUAGE, "en"))
+                .andReturn().getResponse().getContentAsString();
+
+        //then 줄마다 캐시에서, 언어가 달라도 내용은 같음
+        assertThat(second).isEqualTo(first);
+        assertThat(fragmentCache.getHitCount() - hits).isGreaterThanOrEqualTo(2);
+        assertThat(first).contains(">itemA</a>", ">itemB</a>");
+        assertThat(english).contains("itemA", "itemB");
+    }
+
+    @Test
+    void evictLeastRecentlyUsed() {
+        //given 조각 3개 정도만 들어가는 크기
+        ItemFragmentCache cache = new ItemFragmentCache(templateEngine, applicationContext, 3000);
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest(), new MockHttpServletResponse()));
+        Item hot = itemRepository.save(new Item("hot", 10000, 10));
+
+        //when
+        for (int i = 0; i < 20; i++) {
+            cache.render("validation/v4/itemFragments", "row", hot);
+            Item cold = itemRepository.save(new Item("cold" + i, 10000, 10));
+            cache.render("validation/v4/itemFragments", "row", cold);
+        }
+
+        //then 자주 쓰는 조각은 남고, 전체 크기는 한도 이하
+        assertThat(cache.bytes()).isLessThanOrEqualTo(3000);
+        assertThat(cache.getEvictionCount()).isGreaterThan(0);
+        assertThat(cache.getHitCount()).isEqualTo(19);
+    }
+
+    private String page(String url) throws Exception {
+        return mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_LANGUAGE, "ko"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+}
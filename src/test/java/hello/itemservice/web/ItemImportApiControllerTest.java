@@ -0,0 +1,77 @@
+package hello.itemservice.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ItemImportApiControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    void importItems() throws Exception {
+        //given
+        String body = "{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10}\n" +
+                "{\"itemName\":\"\",\"price\":10,\"quantity\":10}\n" +
+                "\n" +
+                "{\"itemName\":\"itemC\",\"price\":\"abc\",\"quantity\":1}\n" +
+                "{\"itemName\":\"itemD\",\n" +
+                "{\"itemName\":\"itemE\",\"price\":1000,\"quantity\":10}\n";
+
+        //when
+        MvcResult result = mockMvc.perform(post("/validation/api/items/import")
+                        .contentType(ItemImportApiController.NDJSON)
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String response = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        //then
+        String[] lines = response.split("\n");
+        assertThat(lines).hasSize(4);
+        assertThat(lines[0]).startsWith("{\"line\":2,").contains("\"NotBlank\"", "\"Range\"", "\"totalPriceMin\"");
+        assertThat(lines[1]).isEqualTo("{\"line\":4,\"errors\":[{\"field\":\"price\",\"code\":\"typeMismatch\"}]}");
+        assertThat(lines[2]).isEqualTo("{\"line\":5,\"errors\":[{\"code\":\"invalidJson\"}]}");
+        assertThat(lines[3]).startsWith("{\"summary\":{\"accepted\":2,\"rejected\":3,");
+    }
+
+    @Test
+    void rejectTooLongLine() throws Exception {
+        //given 줄 길이 제한을 넘는 줄, 마지막은 줄바꿈 없이 끝남
+        String tooLong = "{\"itemName\":\"" + "a".repeat(ItemImportApiController.MAX_LINE_LENGTH) + "\"}";
+        String body = tooLong + "\n" +
+                "{\"itemName\":\"itemB\",\"price\":10000,\"quantity\":10}\r\n" +
+                tooLong;
+
+        //when
+        MvcResult result = mockMvc.perform(post("/validation/api/items/import")
+                        .contentType(ItemImportApiController.NDJSON)
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String response = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        //then 긴 줄만 거절, 다음 줄은 정상 처리
+        String[] lines = response.split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo("{\"line\":1,\"errors\":[{\"code\":\"lineTooLong\"}]}");
+        assertThat(lines[1]).isEqualTo("{\"line\":3,\"errors\":[{\"code\":\"lineTooLong\"}]}");
+        assertThat(lines[2]).startsWith("{\"summary\":{\"accepted\":1,\"rejected\":2,");
+    }
+}
@@ -0,0 +1,56 @@
+package hello.itemservice.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 본문이 천천히 들어오는 대량 등록이 스프링 기본 비동기 timeout 에 잘리지 않는지 (실제 톰캣)
+ * 기본 timeout 을 짧게 두고, 그보다 오래 걸리는 본문을 보냄
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.mvc.async.request-timeout=500ms", "item.import.timeout-millis=60000"})
+class ItemImportTimeoutTest {
+
+    @LocalServerPort
+    int port;
+
+    @Test
+    void slowBodyIsNotCutOff() throws Exception {
+        //given
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + "/validation/api/items/import").openConnection();
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty("Content-Type", ItemImportApiController.NDJSON);
+        connection.setDoOutput(true);
+        connection.setChunkedStreamingMode(0);
+
+        //when 기본 timeout(500ms) 보다 훨씬 오래 걸리게 한 줄씩
+        try (OutputStream out = connection.getOutputStream()) {
+            for (int i = 0; i < 4; i++) {
+                out.write(("{\"itemName\":\"slow" + i + "\",\"price\":10000,\"quantity\":10}\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                Thread.sleep(700);
+            }
+        }
+
+        //then 끝까지 저장하고 요약을 받음
+        assertThat(connection.getResponseCode()).isEqualTo(200);
+        assertThat(connection.getContentType()).isEqualTo(ItemImportApiController.NDJSON);
+        assertThat(read(connection)).startsWith("{\"summary\":{\"accepted\":4,\"rejected\":0,");
+    }
+
+    private static String read(HttpURLConnection connection) throws IOException {
+        try (InputStream in = connection.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package hello.itemservice.web;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 상품 목록/상세 화면 ETag - 바뀌지 않았으면 304 (렌더링 생략)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ItemPageConditionalGetTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Test
+    void itemNotModified() throws Exception {
+        //given
+        Item item = itemRepository.save(new Item("itemA", 10000, 10));
+        String url = "/validation/v3/items/" + item.getId();
+        String etag = etag(url);
+
+        //when //then
+        mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_LANGUAGE, "ko").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        // 수정하면 새 태그로 다시 렌더링
+        itemRepository.update(item.getId(), new Item("itemB", 20000, 20));
+        mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_LANGUAGE, "ko").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("itemB")));
+        assertThat(etag(url)).isNotEqualTo(etag);
+    }
+
+    @Test
+    void itemETagDependsOnPageInputs() throws Exception {
+        //given
+        Item item = itemRepository.save(new Item("itemA", 10000, 10));
+        String url = "/validation/v4/items/" + item.getId();
+
+        //when
+        String etag = etag(url);
+        String saved = etag(url + "?status=true");
+        String korean = etag(url, "ko");
+        String english = etag(url, "en");
+
+        //then '저장 완료' 표시, 언어가 다르면 다른 화면
+        assertThat(saved).isNotEqualTo(etag);
+        assertThat(english).isNotEqualTo(korean);
+    }
+
+    @Test
+    void listNotModified() throws Exception {
+        //given
+        itemRepository.save(new Item("itemA", 10000, 10));
+        String url = "/validation/v1/items";
+        String etag = etag(url);
+
+        //when //then
+        mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_LANGUAGE, "ko").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        assertThat(etag(url + "?size=5")).isNotEqualTo(etag);
+
+        // 상품이 하나라도 추가되면 목록 태그가 바뀜
+        itemRepository.save(new Item("itemB", 20000, 20));
+        mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_LANGUAGE, "ko").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    private String etag(String url) throws Exception {
+        return etag(url, "ko");
+    }
+
+    private String etag(String url, String language) throws Exception {
+        String etag = mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_LANGUAGE, language))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"");
+        return etag;
+    }
+}
@@ -0,0 +1,110 @@
+package hello.itemservice.web;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ItemQueryApiControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    // 시작할 때 TestDataInit 이 넣은 상품 제거
+    @BeforeEach
+    void beforeEach() {
+        itemRepository.clearStore();
+    }
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.clearStore();
+    }
+
+    @Test
+    void searchByItemName() throws Exception {
+        //given
+        Item itemA1 = itemRepository.save(new Item("itemA", 10000, 10));
+        itemRepository.save(new Item("itemB", 10000, 10));
+        Item itemA2 = itemRepository.save(new Item("itemA", 20000, 20));
+
+        //when //then id 순서
+        mockMvc.perform(get("/validation/api/items/search").param("itemName", "itemA"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id").value(contains(itemA1.getId().intValue(), itemA2.getId().intValue())));
+        mockMvc.perform(get("/validation/api/items/search").param("itemName", "none"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(get("/validation/api/items/search"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchByPrice() throws Exception {
+        //given
+        itemRepository.save(new Item("item1", 9000, 10));
+        itemRepository.save(new Item("item2", 5000, 10));
+        itemRepository.save(new Item("item3", 1000, 10));
+        itemRepository.save(new Item("item4", 7000, 10));
+
+        //when //then 가격 순, limit 까지
+        mockMvc.perform(get("/validation/api/items/search/price").param("min", "4000").param("max", "9000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].price").value(contains(5000, 7000, 9000)));
+        mockMvc.perform(get("/validation/api/items/search/price").param("min", "4000").param("limit", "2"))
+                .andExpect(jsonPath("$[*].itemName").value(contains("item2", "item4")));
+        mockMvc.perform(get("/validation/api/items/search/price").param("limit", "-1"))
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    void searchByQuantity() throws Exception {
+        //given
+        itemRepository.save(new Item("item1", 10000, 30));
+        itemRepository.save(new Item("item2", 10000, 10));
+        itemRepository.save(new Item("item3", 10000, 20));
+
+        //when //then 수량 순, 기본 구간은 전체
+        mockMvc.perform(get("/validation/api/items/search/quantity"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].quantity").value(contains(10, 20, 30)));
+        mockMvc.perform(get("/validation/api/items/search/quantity").param("min", "15").param("max", "25"))
+                .andExpect(jsonPath("$[*].itemName").value(contains("item3")));
+        mockMvc.perform(get("/validation/api/items/search/quantity").param("min", "abc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void stats() throws Exception {
+        //given
+        itemRepository.save(new Item("itemA", 1_000_000, 9_999));
+        itemRepository.save(new Item("itemB", 1_000_000, 9_999));
+        Item itemC = itemRepository.save(new Item("itemC", 1000, 10));
+        itemRepository.update(itemC.getId(), new Item("itemC", 3000, 10));
+
+        //when //then int 로 계산하면 넘치는 재고 금액
+        mockMvc.perform(get("/validation/api/items/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(3))
+                .andExpect(jsonPath("$.inventoryValue").value(2L * 1_000_000 * 9_999 + 3000 * 10))
+                .andExpect(jsonPath("$.priceMin").value(3000))
+                .andExpect(jsonPath("$.priceMax").value(1_000_000))
+                .andExpect(jsonPath("$.priceAverage").value(2_003_000 / 3.0));
+    }
+}
@@ -0,0 +1,138 @@
+package hello.itemservice.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ValidationItemApiControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    void addItems() throws Exception {
+        String body = "[" +
+                "{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10}," +
+                "{\"itemName\":\"\",\"price\":10,\"quantity\":10}," +
+                "{\"itemName\":\"itemC\",\"price\":1000,\"quantity\":1}," +
+                "{\"itemName\":\"itemD\",\"price\":1000000,\"quantity\":9999}" +
+                "]";
+
+        mockMvc.perform(post("/validation/api/items/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.saved").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.results[0].id").isNumber())
+                .andExpect(jsonPath("$.results[1].errors.length()").value(3))
+                .andExpect(jsonPath("$.results[2].errors[0].code").value("totalPriceMin"))
+                // 가격 * 수량이 int 범위를 넘어도 정상 처리
+                .andExpect(jsonPath("$.results[3].id").isNumber());
+    }
+
+    @Test
+    void addItemsTypeMismatchPerRow() throws Exception {
+        // 한 건의 타입 오류는 그 건만 실패
+        String body = "[" +
+                "{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10}," +
+                "{\"itemName\":\"itemB\",\"price\":\"abc\",\"quantity\":10}," +
+                "null," +
+                "{\"itemName\":\"itemD\",\"price\":\"20000\",\"quantity\":10}" +
+                "]";
+
+        mockMvc.perform(post("/validation/api/items/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.saved").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.results[0].id").isNumber())
+                .andExpect(jsonPath("$.results[1].index").value(1))
+                .andExpect(jsonPath("$.results[1].errors[0].field").value("price"))
+                .andExpect(jsonPath("$.results[1].errors[0].code").value("typeMismatch"))
+                .andExpect(jsonPath("$.results[2].errors[0].code").value("required"))
+                .andExpect(jsonPath("$.results[3].id").isNumber());
+    }
+
+    @Test
+    void addItemTypeMismatch() throws Exception {
+        // 숫자 자리에 문자가 와도 예외 없이 필드 오류로 응답
+        mockMvc.perform(post("/validation/api/items/add")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"itemName\":\"itemA\",\"price\":\"abc\",\"quantity\":\"10\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].field").value("price"))
+                .andExpect(jsonPath("$[0].code").value("typeMismatch"))
+                .andExpect(jsonPath("$[0].rejectedValue").value("abc"))
+                .andExpect(jsonPath("$[0].message").value("숫자만 입력해"));
+
+        // 문자열 숫자는 폼 바인딩처럼 허용
+        mockMvc.perform(post("/validation/api/items/add")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"itemName\":\"itemA\",\"price\":\"10000\",\"quantity\":10}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.price").value(10000));
+
+        mockMvc.perform(post("/validation/api/items/add")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"itemName\":"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0].code").value("invalidJson"))
+                .andExpect(jsonPath("$[0].field").doesNotExist());
+    }
+
+    @Test
+    void addItemErrorResponse() throws Exception {
+        // 필드 오류는 거절된 값과 메시지까지
+        mockMvc.perform(post("/validation/api/items/add")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"itemName\":\"itemA\",\"price\":10,\"quantity\":10}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].field").value("price"))
+                .andExpect(jsonPath("$[0].code").value("Range"))
+                .andExpect(jsonPath("$[0].rejectedValue").value(10))
+                .andExpect(jsonPath("$[0].message").value("뭔데 1,000 ~ 1,000,000 허용"));
+
+        // 전역 오류는 code 와 메시지만
+        mockMvc.perform(post("/validation/api/items/add")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"itemName\":\"itemA\",\"price\":1000,\"quantity\":1}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0].code").value("totalPriceMin"))
+                .andExpect(jsonPath("$[0].field").doesNotExist())
+                .andExpect(jsonPath("$[0].message").value("전체 가격은 10,000원 이상이어야 합니다. 현재 값 = 1,000"));
+    }
+
+    @Test
+    void addItemFailFast() throws Exception {
+        // 값이 없는 필드가 있으면 범위 검증과 복합 룰은 보지 않고 오류 하나만
+        mockMvc.perform(post("/validation/api/items/add")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"itemName\":\"\",\"price\":10,\"quantity\":10000}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].field").value("itemName"))
+                .andExpect(jsonPath("$[0].code").value("NotBlank"));
+
+        mockMvc.perform(post("/validation/api/items/add")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"itemName\":\"itemA\",\"price\":10,\"quantity\":10000}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].code").value(anyOf(is("Range"), is("Max"))));
+    }
+}